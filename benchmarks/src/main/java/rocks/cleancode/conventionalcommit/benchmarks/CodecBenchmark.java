@@ -0,0 +1,113 @@
+package rocks.cleancode.conventionalcommit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import rocks.cleancode.conventionalcommit.ConventionalCommit;
+import rocks.cleancode.conventionalcommit.ConventionalCommitCodec;
+import rocks.cleancode.conventionalcommit.ConventionalCommitParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time to load a history of commits from a file written by the codec, or to parse its messages again,
+ * keeping all commits or consuming them one by one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class CodecBenchmark {
+
+    private static final String[] TYPES = {"feat", "fix", "docs", "refactor", "test", "chore"};
+
+    private static final String[] SCOPES = {"api", "core", "parser", "reader", "cli"};
+
+    @Param({"1000000"})
+    public int commits;
+
+    private final ConventionalCommitParser parser = new ConventionalCommitParser();
+
+    private final ConventionalCommitCodec codec = new ConventionalCommitCodec();
+
+    private List<String> messages;
+
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        List<ConventionalCommit> history = new ArrayList<>(commits);
+
+        messages = new ArrayList<>(commits);
+
+        for (int ordinal = 0; ordinal < commits; ordinal++) {
+            String message = TYPES[random.nextInt(TYPES.length)]
+                + (random.nextBoolean() ? "(" + SCOPES[random.nextInt(SCOPES.length)] + ")" : "")
+                + ": Change number " + ordinal
+                + (random.nextInt(3) == 0 ? "\n\nDetails of the change " + ordinal + "\non two lines" : "")
+                + (random.nextBoolean() ? "\n\nRefs: #" + ordinal + "\nReviewed-by: John DOE" : "");
+
+            messages.add(message);
+            history.add(parser.parse(message));
+        }
+
+        file = Files.createTempFile("commits", ".bin");
+        codec.writeAll(history, file);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public List<ConventionalCommit> parse() {
+        List<ConventionalCommit> history = new ArrayList<>(messages.size());
+
+        for (String message : messages) {
+            history.add(parser.parse(message));
+        }
+
+        return history;
+    }
+
+    @Benchmark
+    public List<ConventionalCommit> load() throws IOException {
+        return codec.readAll(file);
+    }
+
+    @Benchmark
+    public void parseEach(Blackhole blackhole) {
+        for (String message : messages) {
+            blackhole.consume(parser.parse(message));
+        }
+    }
+
+    @Benchmark
+    public void streamEach(Blackhole blackhole) throws IOException {
+        try (Stream<ConventionalCommit> history = codec.stream(file)) {
+            history.forEach(blackhole::consume);
+        }
+    }
+
+}
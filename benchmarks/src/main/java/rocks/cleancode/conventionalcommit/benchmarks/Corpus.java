@@ -0,0 +1,89 @@
+package rocks.cleancode.conventionalcommit.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Commit messages used by benchmarks: test cases of the library and synthetic messages.
+ */
+final class Corpus {
+
+    static final String SHORT_HEADER = "short-header";
+
+    static final String SCOPED_HEADER = "scoped-header";
+
+    static final String EXCLAMATION_HEADER = "exclamation-header";
+
+    static final String LONG_BODY = "long-body";
+
+    static final String MANY_FOOTERS = "many-footers";
+
+    static final String MALFORMED = "malformed";
+
+    static final String TEST_CASES = "test-cases";
+
+    private static final String HEADER = "feat: Add support of custom types in the commit message parser";
+
+    private Corpus() {
+    }
+
+    static String[] messages(String corpus) {
+        switch (corpus) {
+            case SHORT_HEADER:
+                return new String[] { HEADER };
+            case SCOPED_HEADER:
+                return new String[] { "feat(parser): Add support of custom types in the commit message parser" };
+            case EXCLAMATION_HEADER:
+                return new String[] { "feat(parser)!: Remove support of regular expressions in custom types" };
+            case LONG_BODY:
+                return new String[] { HEADER + "\n\n" + lines(200, "Some description of the change, line %d.") };
+            case MANY_FOOTERS:
+                return new String[] { HEADER + "\n\nShort body\n\n" + lines(50, "Footer-%1$d: Value of footer %1$d") };
+            case MALFORMED:
+                return new String[] { "Merge branch 'feature/custom-types' into main" };
+            case TEST_CASES:
+                return testCases().toArray(new String[0]);
+            default:
+                throw new IllegalArgumentException(format("Unknown corpus %s", corpus));
+        }
+    }
+
+    static List<String> types(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(index -> format("type%d", index))
+            .collect(toList());
+    }
+
+    private static String lines(int count, String pattern) {
+        return IntStream.range(0, count)
+            .mapToObj(index -> format(pattern, index))
+            .collect(joining("\n"));
+    }
+
+    private static List<String> testCases() {
+        try (InputStream testCases = Corpus.class.getResourceAsStream("/test-cases.yaml")) {
+            List<Map<String, Object>> values = new ObjectMapper(new YAMLFactory())
+                .readValue(testCases, new TypeReference<List<Map<String, Object>>>() {
+                });
+
+            return values.stream()
+                .map(testCase -> testCase.get("message").toString().trim())
+                .collect(toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
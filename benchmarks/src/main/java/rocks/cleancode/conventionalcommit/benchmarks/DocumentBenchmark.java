@@ -0,0 +1,80 @@
+package rocks.cleancode.conventionalcommit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rocks.cleancode.conventionalcommit.ConventionalCommitDocument;
+import rocks.cleancode.conventionalcommit.ConventionalCommitParseResult;
+import rocks.cleancode.conventionalcommit.ConventionalCommitParser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of one keystroke in a large message, parsed incrementally or from scratch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentBenchmark {
+
+    @Param({"1000", "10000"})
+    public int bodyLines;
+
+    @Param({"header", "body", "footer"})
+    public String editedPart;
+
+    private ConventionalCommitParser parser;
+
+    private ConventionalCommitDocument document;
+
+    private int offset;
+
+    @Setup
+    public void setUp() {
+        StringBuilder message = new StringBuilder("feat: Add support of custom types\n\n");
+
+        for (int line = 0; line < bodyLines; line++) {
+            message.append("Line ").append(line).append(" of the body of the commit message\n");
+        }
+
+        message.append("\nRefs: #123\nReviewed-by: John DOE");
+
+        parser = new ConventionalCommitParser();
+        document = parser.open(message.toString());
+
+        switch (editedPart) {
+            case "header":
+                offset = 10;
+                break;
+            case "body":
+                offset = message.length() / 2;
+                break;
+            default:
+                offset = message.length() - 1;
+        }
+    }
+
+    @Benchmark
+    public ConventionalCommitDocument edit() {
+        return document.edit(offset, 1, "x");
+    }
+
+    @Benchmark
+    public ConventionalCommitParseResult parseEditedText() {
+        String text = document.text();
+
+        return parser.tryParse(text.substring(0, offset) + "x" + text.substring(offset + 1));
+    }
+
+}
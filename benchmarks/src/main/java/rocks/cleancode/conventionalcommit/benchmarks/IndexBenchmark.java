@@ -0,0 +1,94 @@
+package rocks.cleancode.conventionalcommit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rocks.cleancode.conventionalcommit.ConventionalCommit;
+import rocks.cleancode.conventionalcommit.ConventionalCommitIndex;
+import rocks.cleancode.conventionalcommit.ConventionalCommitParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of "breaking feat(api) commits in the last 100k" on an index, or with a linear scan of commits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexBenchmark {
+
+    private static final String[] TYPES = {"feat", "fix", "docs", "refactor", "test", "chore"};
+
+    private static final String[] SCOPES = {"api", "core", "parser", "reader", "cli"};
+
+    private static final int RANGE = 100_000;
+
+    @Param({"1000000"})
+    public int commits;
+
+    private List<ConventionalCommit> list;
+
+    private ConventionalCommitIndex index;
+
+    @Setup
+    public void setUp() {
+        ConventionalCommitParser parser = new ConventionalCommitParser();
+        Random random = new Random(42);
+
+        list = new ArrayList<>(commits);
+
+        for (int ordinal = 0; ordinal < commits; ordinal++) {
+            String message = TYPES[random.nextInt(TYPES.length)]
+                + "(" + SCOPES[random.nextInt(SCOPES.length)] + ")"
+                + (random.nextInt(50) == 0 ? "!" : "")
+                + ": Change " + ordinal
+                + (random.nextBoolean() ? "\n\nRefs: #" + ordinal : "");
+
+            list.add(parser.parse(message));
+        }
+
+        index = new ConventionalCommitIndex.Builder().addAll(list).build();
+    }
+
+    @Benchmark
+    public int[] query() {
+        return index.query()
+            .last(RANGE)
+            .type("feat")
+            .scope("api")
+            .breakingChange()
+            .ordinals();
+    }
+
+    @Benchmark
+    public List<Integer> linearScan() {
+        List<Integer> ordinals = new ArrayList<>();
+
+        for (int ordinal = list.size() - RANGE; ordinal < list.size(); ordinal++) {
+            ConventionalCommit commit = list.get(ordinal);
+
+            if (commit.type().equals("feat")
+                && commit.scope().map("api"::equals).orElse(false)
+                && commit.breakingChange()) {
+                ordinals.add(ordinal);
+            }
+        }
+
+        return ordinals;
+    }
+
+}
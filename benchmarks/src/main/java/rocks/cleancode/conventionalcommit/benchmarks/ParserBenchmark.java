@@ -0,0 +1,120 @@
+package rocks.cleancode.conventionalcommit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rocks.cleancode.conventionalcommit.ConventionalCommitLimits;
+import rocks.cleancode.conventionalcommit.ConventionalCommitMetricsRecorder;
+import rocks.cleancode.conventionalcommit.ConventionalCommitParseResult;
+import rocks.cleancode.conventionalcommit.ConventionalCommitParser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link ConventionalCommitParser} on each corpus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({
+        Corpus.SHORT_HEADER,
+        Corpus.SCOPED_HEADER,
+        Corpus.EXCLAMATION_HEADER,
+        Corpus.LONG_BODY,
+        Corpus.MANY_FOOTERS,
+        Corpus.MALFORMED,
+        Corpus.TEST_CASES
+    })
+    public String corpus;
+
+    private ConventionalCommitParser parser;
+
+    private ConventionalCommitParser lazyBodyParser;
+
+    private ConventionalCommitParser metricsParser;
+
+    private ConventionalCommitParser limitsParser;
+
+    private String[] messages;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        parser = new ConventionalCommitParser();
+        lazyBodyParser = parser.withLazyBody();
+        metricsParser = parser.withMetrics(new ConventionalCommitMetricsRecorder());
+        limitsParser = parser.withLimits(
+            new ConventionalCommitLimits.Builder()
+                .maxMessageLength(64 * 1024)
+                .maxHeaderLength(1024)
+                .maxFooterLines(100)
+                .maxScanSteps(64 * 1024)
+                .build()
+        );
+        messages = Corpus.messages(corpus);
+    }
+
+    @Benchmark
+    public Object parse() {
+        try {
+            return parser.parse(nextMessage());
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ConventionalCommitParseResult tryParse() {
+        return parser.tryParse(nextMessage());
+    }
+
+    @Benchmark
+    public ConventionalCommitParseResult tryParseLazyBody() {
+        return lazyBodyParser.tryParse(nextMessage());
+    }
+
+    @Benchmark
+    public ConventionalCommitParseResult tryParseWithMetrics() {
+        return metricsParser.tryParse(nextMessage());
+    }
+
+    @Benchmark
+    public ConventionalCommitParseResult tryParseWithLimits() {
+        return limitsParser.tryParse(nextMessage());
+    }
+
+    @Benchmark
+    public Object parseHeader() {
+        try {
+            return parser.parseHeader(nextMessage());
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public boolean hasBreakingChange() {
+        return parser.hasBreakingChange(nextMessage());
+    }
+
+    private String nextMessage() {
+        index = (index + 1) % messages.length;
+
+        return messages[index];
+    }
+
+}
@@ -0,0 +1,61 @@
+package rocks.cleancode.conventionalcommit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rocks.cleancode.conventionalcommit.ConventionalCommit;
+import rocks.cleancode.conventionalcommit.ConventionalCommitParser;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link ConventionalCommit#toString()} on each corpus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToStringBenchmark {
+
+    @Param({
+        Corpus.SHORT_HEADER,
+        Corpus.SCOPED_HEADER,
+        Corpus.EXCLAMATION_HEADER,
+        Corpus.LONG_BODY,
+        Corpus.MANY_FOOTERS,
+        Corpus.TEST_CASES
+    })
+    public String corpus;
+
+    private ConventionalCommit[] commits;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        ConventionalCommitParser parser = new ConventionalCommitParser();
+
+        commits = Arrays.stream(Corpus.messages(corpus))
+            .map(parser::parse)
+            .toArray(ConventionalCommit[]::new);
+    }
+
+    @Benchmark
+    public String toStringMessage() {
+        index = (index + 1) % commits.length;
+
+        return commits[index].toString();
+    }
+
+}
@@ -0,0 +1,60 @@
+package rocks.cleancode.conventionalcommit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rocks.cleancode.conventionalcommit.ConventionalCommitHeader;
+import rocks.cleancode.conventionalcommit.ConventionalCommitParseResult;
+import rocks.cleancode.conventionalcommit.ConventionalCommitParser;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Throughput of {@link ConventionalCommitParser} depending on the number of custom types.
+ * Message uses the last declared type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypesBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int typeCount;
+
+    private ConventionalCommitParser parser;
+
+    private String message;
+
+    @Setup
+    public void setUp() {
+        List<String> types = Corpus.types(typeCount);
+
+        parser = new ConventionalCommitParser(types.toArray(new String[0]));
+        message = format("%s(parser): Add support of custom types", types.get(typeCount - 1));
+    }
+
+    @Benchmark
+    public ConventionalCommitParseResult tryParse() {
+        return parser.tryParse(message);
+    }
+
+    @Benchmark
+    public ConventionalCommitHeader parseHeader() {
+        return parser.parseHeader(message);
+    }
+
+}
@@ -0,0 +1,102 @@
+package rocks.cleancode.conventionalcommit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rocks.cleancode.conventionalcommit.ConventionalCommit;
+import rocks.cleancode.conventionalcommit.ConventionalCommitParser;
+import rocks.cleancode.conventionalcommit.VersionBump;
+import rocks.cleancode.conventionalcommit.VersionBumpCalculator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Time to calculate the version increment of a release range without breaking change,
+ * with the calculator or by parsing every message. Messages with 50 footer entries can be added
+ * to the range, as a worst case for the backward footer scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionBumpBenchmark {
+
+    private static final String[] CORPORA = {
+        Corpus.SHORT_HEADER,
+        Corpus.SCOPED_HEADER,
+        Corpus.LONG_BODY,
+        Corpus.MANY_FOOTERS,
+        Corpus.MALFORMED
+    };
+
+    @Param({"200000"})
+    public int commits;
+
+    @Param({"false", "true"})
+    public boolean manyFooters;
+
+    private List<String> messages;
+
+    private ConventionalCommitParser parser;
+
+    private VersionBumpCalculator calculator;
+
+    @Setup
+    public void setUp() {
+        List<String> corpus = Arrays.stream(CORPORA)
+            .filter(name -> manyFooters || !name.equals(Corpus.MANY_FOOTERS))
+            .flatMap(name -> Arrays.stream(Corpus.messages(name)))
+            .collect(Collectors.toList());
+
+        messages = IntStream.range(0, commits)
+            .mapToObj(index -> corpus.get(index % corpus.size()))
+            .collect(Collectors.toList());
+        parser = new ConventionalCommitParser();
+        calculator = new VersionBumpCalculator(parser);
+    }
+
+    @Benchmark
+    public VersionBump calculate() {
+        return calculator.calculate(messages.iterator());
+    }
+
+    @Benchmark
+    public VersionBump parseEveryMessage() {
+        VersionBump bump = VersionBump.NONE;
+
+        for (String message : messages) {
+            ConventionalCommit commit = parser.tryParse(message).commit().orElse(null);
+
+            if (commit == null) {
+                continue;
+            }
+
+            if (commit.breakingChange()) {
+                return VersionBump.MAJOR;
+            }
+
+            if (commit.type().equals("feat") && bump.compareTo(VersionBump.MINOR) < 0) {
+                bump = VersionBump.MINOR;
+            } else if (commit.type().equals("fix") && bump == VersionBump.NONE) {
+                bump = VersionBump.PATCH;
+            }
+        }
+
+        return bump;
+    }
+
+}
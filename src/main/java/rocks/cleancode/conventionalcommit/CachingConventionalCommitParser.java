@@ -0,0 +1,182 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>Conventional commit parser remembering the results of previously parsed messages.</p>
+ *
+ * Results are kept in a bounded cache, keyed by the full message (hash code and equality), so parsing
+ * a message which has already been parsed returns the same immutable {@link ConventionalCommit}.
+ * Failures are cached as well. The cache is thread-safe.
+ *
+ * @since 1.3.0
+ */
+public final class CachingConventionalCommitParser {
+
+    /**
+     * Default maximum number of cached messages.
+     *
+     * @since 1.3.0
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    /**
+     * Builder of caching parser.
+     *
+     * @since 1.3.0
+     */
+    public static class Builder {
+
+        private ConventionalCommitParser parser;
+
+        private long maximumSize;
+
+        private long maximumWeight;
+
+        private Duration expireAfterWrite;
+
+        private LongSupplier ticker;
+
+        /**
+         * Default constructor: recommended types, at most {@link #DEFAULT_MAXIMUM_SIZE} messages,
+         * no weight limit and no expiration.
+         *
+         * @since 1.3.0
+         */
+        public Builder() {
+            this.parser = new ConventionalCommitParser();
+            this.maximumSize = DEFAULT_MAXIMUM_SIZE;
+            this.maximumWeight = LruCache.UNLIMITED;
+            this.ticker = System::nanoTime;
+        }
+
+        /**
+         * Parser used for messages which are not in the cache.
+         *
+         * @param parser Parser
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder parser(ConventionalCommitParser parser) {
+            this.parser = parser;
+
+            return this;
+        }
+
+        /**
+         * Maximum number of cached messages.
+         *
+         * @param maximumSize Maximum number of messages, must be positive
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder maximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+
+            return this;
+        }
+
+        /**
+         * Maximum total length of cached messages, in characters.
+         *
+         * @param maximumWeight Maximum number of characters, must not be negative
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder maximumWeight(long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+
+            return this;
+        }
+
+        /**
+         * Time after which a cached result expires, since the message has been parsed.
+         *
+         * @param expireAfterWrite Expiration time, must be positive
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder expireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+
+            return this;
+        }
+
+        Builder ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+
+            return this;
+        }
+
+        /**
+         * Build the caching parser with the given values.
+         *
+         * @return Caching parser
+         * @throws IllegalArgumentException If a limit is not positive
+         *
+         * @since 1.3.0
+         */
+        public CachingConventionalCommitParser build() {
+            return new CachingConventionalCommitParser(this);
+        }
+
+    }
+
+    private final ConventionalCommitParser parser;
+
+    private final LruCache<String, ConventionalCommitParseResult> results;
+
+    private CachingConventionalCommitParser(Builder builder) {
+        this.parser = builder.parser;
+        this.results = new LruCache<>(
+            builder.maximumSize,
+            builder.maximumWeight,
+            String::length,
+            builder.expireAfterWrite == null ? LruCache.UNLIMITED : builder.expireAfterWrite.toNanos(),
+            builder.ticker
+        );
+    }
+
+    /**
+     * Parse raw conventional commit message, or get the result of a previous parsing.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @return Parsed conventional commit message, same instance for the same message while it is cached
+     * @throws IllegalArgumentException If message has not conventional commit format
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommit parse(String fullCommitMessage) {
+        return tryParse(fullCommitMessage).orElseThrow();
+    }
+
+    /**
+     * Parse raw conventional commit message without throwing exception, or get the result of a previous parsing.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @return Parsed conventional commit message, or parsing error
+     * @see ConventionalCommitParser#tryParse(String)
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitParseResult tryParse(String fullCommitMessage) {
+        return results.get(fullCommitMessage, parser::tryParse);
+    }
+
+    /**
+     * Statistics of the cache: hits, misses and evictions, including expirations.
+     *
+     * @return Snapshot of the statistics
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitCacheStatistics statistics() {
+        return results.statistics();
+    }
+
+}
@@ -0,0 +1,87 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>Bounded table of canonical strings, shared between threads.</p>
+ *
+ * Each string is stored in a slot chosen by its hash; a new string replaces the previous one of its slot,
+ * so the table never grows and frequent strings (footer keys, scopes) are kept while rare ones are evicted.
+ * Only short ASCII strings are stored.
+ */
+final class CanonicalStrings {
+
+    private final AtomicReferenceArray<String> slots;
+
+    private final int maxLength;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity Number of slots, must be a power of two
+     * @param maxLength Maximum length of stored strings
+     */
+    CanonicalStrings(int capacity, int maxLength) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Canonical string with the characters of the given range.
+     * No string is created if the range is already in the table.
+     *
+     * @param text Text
+     * @param start Start of the range
+     * @param end End of the range
+     * @return String equal to the range, same instance as previous calls unless it has been evicted
+     */
+    String canonical(CharSequence text, int start, int end) {
+        if (end - start > maxLength) {
+            return text.subSequence(start, end).toString();
+        }
+
+        int hash = 0;
+
+        for (int index = start; index < end; index++) {
+            char character = text.charAt(index);
+
+            if (character >= 0x80) {
+                return text.subSequence(start, end).toString();
+            }
+
+            hash = 31 * hash + character;
+        }
+
+        int slot = (hash ^ (hash >>> 16)) & (slots.length() - 1);
+        String candidate = slots.get(slot);
+
+        if (candidate != null && regionEquals(candidate, text, start, end)) {
+            return candidate;
+        }
+
+        String value = text.subSequence(start, end).toString();
+
+        slots.lazySet(slot, value);
+
+        return value;
+    }
+
+    private static boolean regionEquals(String candidate, CharSequence text, int start, int end) {
+        if (candidate.length() != end - start) {
+            return false;
+        }
+
+        for (int index = 0; index < candidate.length(); index++) {
+            if (candidate.charAt(index) != text.charAt(start + index)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+}
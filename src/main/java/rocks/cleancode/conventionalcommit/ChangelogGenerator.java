@@ -0,0 +1,335 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+
+/**
+ * <p>Generator of Markdown changelogs from conventional commits.</p>
+ *
+ * Commits are read in a single pass and dispatched to the sections of their type, then grouped by scope:
+ * commits without scope first, then scopes in order of appearance. Breaking changes have their own section.
+ * The section of a type is found in a fixed table built with the generator, and each section keeps a bucket
+ * of entries per scope. Parsers return the same type and scope instances for the same names, so both are
+ * compared by identity first and by equality only when no instance matches: dispatching a commit needs
+ * no hash lookup. Only the generated entries are kept until they are written, so memory is proportional
+ * to the output. Commits which do not belong to a section are ignored, as well as empty sections.
+ *
+ * Output follows <a href="https://keepachangelog.com/en/1.0.0/">Keep a Changelog</a> layout:
+ *
+ * <pre>
+ * ## [1.3.0] - 2022-11-20
+ *
+ * ### Features
+ *
+ * - Description of a commit without scope
+ * - **scope:** Description of a commit with scope
+ * </pre>
+ *
+ * Generators are immutable and can be shared between threads.
+ *
+ * @since 1.3.0
+ */
+public final class ChangelogGenerator {
+
+    private static final String NEWLINE = "\n";
+
+    private static final int NO_SECTION = -1;
+
+    private static final int NO_SCOPE = -1;
+
+    private static final int INITIAL_SCOPES = 4;
+
+    /**
+     * Builder of changelog generator. Without any section nor breaking changes section, default sections are used:
+     * breaking changes, features ({@code feat}) and fixes ({@code fix}).
+     *
+     * @since 1.3.0
+     */
+    public static class Builder {
+
+        private String breakingChangesTitle;
+
+        private final List<String> titles = new ArrayList<>();
+
+        private final List<List<String>> types = new ArrayList<>();
+
+        /**
+         * Section of breaking changes, written first. Breaking changes are only listed in this section,
+         * whatever their type.
+         *
+         * @param title Title of the section
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder breakingChanges(String title) {
+            this.breakingChangesTitle = title;
+
+            return this;
+        }
+
+        /**
+         * Section of commits of the given types, written in the order sections are added.
+         *
+         * @param title Title of the section
+         * @param types Types of the commits of the section
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder section(String title, String... types) {
+            this.titles.add(title);
+            this.types.add(asList(types));
+
+            return this;
+        }
+
+        /**
+         * Build the changelog generator with the given sections.
+         *
+         * @return Changelog generator
+         *
+         * @since 1.3.0
+         */
+        public ChangelogGenerator build() {
+            if (breakingChangesTitle == null && titles.isEmpty()) {
+                breakingChanges("Breaking changes")
+                    .section("Features", "feat")
+                    .section("Fixes", "fix");
+            }
+
+            return new ChangelogGenerator(this);
+        }
+
+    }
+
+    /**
+     * Entries of a section being generated: entries without scope, then entries of each scope,
+     * in order of appearance of the scopes.
+     */
+    private static final class Section {
+
+        private StringBuilder unscoped;
+
+        private String[] scopes = new String[INITIAL_SCOPES];
+
+        private StringBuilder[] scoped = new StringBuilder[INITIAL_SCOPES];
+
+        private int scopeCount;
+
+        private int lastScope = NO_SCOPE;
+
+        private StringBuilder entries(String scope) {
+            if (scope == null) {
+                if (unscoped == null) {
+                    unscoped = new StringBuilder();
+                }
+
+                return unscoped;
+            }
+
+            int index = lastScope != NO_SCOPE && scopes[lastScope] == scope ? lastScope : indexOf(scope);
+
+            if (index == NO_SCOPE) {
+                index = add(scope);
+            }
+
+            lastScope = index;
+
+            return scoped[index];
+        }
+
+        private int indexOf(String scope) {
+            for (int index = 0; index < scopeCount; index++) {
+                if (scopes[index] == scope) {
+                    return index;
+                }
+            }
+
+            for (int index = 0; index < scopeCount; index++) {
+                if (scopes[index].equals(scope)) {
+                    return index;
+                }
+            }
+
+            return NO_SCOPE;
+        }
+
+        private int add(String scope) {
+            if (scopeCount == scopes.length) {
+                scopes = Arrays.copyOf(scopes, 2 * scopeCount);
+                scoped = Arrays.copyOf(scoped, 2 * scopeCount);
+            }
+
+            scopes[scopeCount] = scope;
+            scoped[scopeCount] = new StringBuilder();
+
+            return scopeCount++;
+        }
+
+        private boolean isEmpty() {
+            return unscoped == null && scopeCount == 0;
+        }
+
+    }
+
+    private final String[] titles;
+
+    private final int breakingChangesSection;
+
+    /**
+     * Types of all sections, the section of {@code types[i]} being {@code typeSections[i]}.
+     */
+    private final String[] types;
+
+    private final int[] typeSections;
+
+    private ChangelogGenerator(Builder builder) {
+        List<String> titles = new ArrayList<>();
+        List<String> types = new ArrayList<>();
+        List<Integer> typeSections = new ArrayList<>();
+
+        if (builder.breakingChangesTitle != null) {
+            titles.add(builder.breakingChangesTitle);
+        }
+
+        for (int index = 0; index < builder.titles.size(); index++) {
+            for (String type : builder.types.get(index)) {
+                // A type declared in several sections belongs to the first one
+                if (!types.contains(type)) {
+                    types.add(type);
+                    typeSections.add(titles.size());
+                }
+            }
+
+            titles.add(builder.titles.get(index));
+        }
+
+        this.titles = titles.toArray(new String[0]);
+        this.breakingChangesSection = builder.breakingChangesTitle == null ? NO_SECTION : 0;
+        this.types = types.toArray(new String[0]);
+        this.typeSections = typeSections.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Write the changelog of a release.
+     *
+     * @param title Title of the release, e.g. {@code [1.3.0] - 2022-11-20}
+     * @param commits Commits of the release
+     * @param output Output of the changelog
+     * @throws IOException If changelog cannot be written
+     *
+     * @since 1.3.0
+     */
+    public void write(String title, Iterator<? extends ConventionalCommit> commits, Appendable output)
+        throws IOException {
+        Section[] sections = new Section[titles.length];
+
+        for (int index = 0; index < titles.length; index++) {
+            sections[index] = new Section();
+        }
+
+        while (commits.hasNext()) {
+            ConventionalCommit commit = commits.next();
+            int section = section(commit);
+
+            if (section != NO_SECTION) {
+                appendEntry(sections[section].entries(commit.scope().orElse(null)), commit);
+            }
+        }
+
+        output.append("## ").append(title).append(NEWLINE);
+
+        for (int index = 0; index < titles.length; index++) {
+            Section section = sections[index];
+
+            if (section.isEmpty()) {
+                continue;
+            }
+
+            output.append(NEWLINE).append("### ").append(titles[index]).append(NEWLINE).append(NEWLINE);
+
+            if (section.unscoped != null) {
+                output.append(section.unscoped);
+            }
+
+            for (int scope = 0; scope < section.scopeCount; scope++) {
+                output.append(section.scoped[scope]);
+            }
+        }
+    }
+
+    /**
+     * Write the changelog of a release.
+     *
+     * @param title Title of the release, e.g. {@code [1.3.0] - 2022-11-20}
+     * @param commits Commits of the release, consumed by this method
+     * @param output Output of the changelog
+     * @throws IOException If changelog cannot be written
+     *
+     * @since 1.3.0
+     */
+    public void write(String title, Stream<? extends ConventionalCommit> commits, Appendable output)
+        throws IOException {
+        write(title, commits.iterator(), output);
+    }
+
+    /**
+     * Changelog of a release.
+     *
+     * @param title Title of the release, e.g. {@code [1.3.0] - 2022-11-20}
+     * @param commits Commits of the release
+     * @return Changelog in Markdown
+     *
+     * @since 1.3.0
+     */
+    public String generate(String title, Iterable<? extends ConventionalCommit> commits) {
+        StringBuilder changelog = new StringBuilder();
+
+        try {
+            write(title, commits.iterator(), changelog);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return changelog.toString();
+    }
+
+    private int section(ConventionalCommit commit) {
+        if (breakingChangesSection != NO_SECTION && commit.breakingChange()) {
+            return breakingChangesSection;
+        }
+
+        String type = commit.type();
+
+        for (int index = 0; index < types.length; index++) {
+            if (types[index] == type) {
+                return typeSections[index];
+            }
+        }
+
+        for (int index = 0; index < types.length; index++) {
+            if (types[index].equals(type)) {
+                return typeSections[index];
+            }
+        }
+
+        return NO_SECTION;
+    }
+
+    private static void appendEntry(StringBuilder entries, ConventionalCommit commit) {
+        entries.append("- ");
+
+        commit.scope().ifPresent(scope -> entries.append("**").append(scope).append(":** "));
+
+        entries.append(commit.description()).append(NEWLINE);
+    }
+
+}
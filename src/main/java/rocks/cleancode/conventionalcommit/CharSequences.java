@@ -0,0 +1,49 @@
+package rocks.cleancode.conventionalcommit;
+
+final class CharSequences {
+
+    private CharSequences() {
+    }
+
+    /**
+     * First offset of the range which is not whitespace, following {@link String#trim()} definition.
+     *
+     * @param text Text
+     * @param start Start of the range
+     * @param end End of the range
+     * @return Offset of the first non-whitespace character, {@code end} if there is none
+     */
+    static int trimStart(CharSequence text, int start, int end) {
+        int index = start;
+
+        while (index < end && text.charAt(index) <= ' ') {
+            index++;
+        }
+
+        return index;
+    }
+
+    /**
+     * Offset following the last character of the range which is not whitespace,
+     * following {@link String#trim()} definition.
+     *
+     * @param text Text
+     * @param start Start of the range
+     * @param end End of the range
+     * @return Offset following the last non-whitespace character, {@code start} if there is none
+     */
+    static int trimEnd(CharSequence text, int start, int end) {
+        int index = end;
+
+        while (index > start && text.charAt(index - 1) <= ' ') {
+            index--;
+        }
+
+        return index;
+    }
+
+    static boolean isBlank(CharSequence text, int start, int end) {
+        return trimStart(text, start, end) == end;
+    }
+
+}
@@ -1,13 +1,14 @@
 package rocks.cleancode.conventionalcommit;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import static java.lang.String.format;
-import static java.util.stream.Collectors.joining;
 
 /**
  * <p>Conventional commit message representation.</p>
@@ -18,9 +19,15 @@ import static java.util.stream.Collectors.joining;
  */
 public class ConventionalCommit {
 
-    private static final String EMPTY_STRING = "";
+    private static final String SCOPE_START = "(";
 
-    private static final String NEWLINE = format("%n");
+    private static final String SCOPE_END = ")";
+
+    private static final String EXCLAMATION = "!";
+
+    static final String SEPARATOR = ": ";
+
+    static final String NEWLINE = format("%n");
 
     private static final String DOUBLE_NEWLINE = NEWLINE + NEWLINE;
 
@@ -41,7 +48,9 @@ public class ConventionalCommit {
 
         private String body;
 
-        private final Map<String, String> footer;
+        private final List<String> footerKeys;
+
+        private final List<String> footerValues;
 
         /**
          * Default constructor.
@@ -49,7 +58,8 @@ public class ConventionalCommit {
          * @since 1.1.0
          */
         public Builder() {
-            this.footer = new HashMap<>();
+            this.footerKeys = new ArrayList<>();
+            this.footerValues = new ArrayList<>();
         }
 
         /**
@@ -123,7 +133,8 @@ public class ConventionalCommit {
         }
 
         /**
-         * Add footer to message.
+         * Add footer to message. Entries keep the order in which they are added,
+         * and the same key might be added several times.
          *
          * @param key Key of the footer entry
          * @param value Value of the footer entry
@@ -132,7 +143,8 @@ public class ConventionalCommit {
          * @since 1.1.0
          */
         public Builder footer(String key, String value) {
-            this.footer.put(key, value);
+            this.footerKeys.add(key);
+            this.footerValues.add(value);
 
             return this;
         }
@@ -151,7 +163,7 @@ public class ConventionalCommit {
                 exclamation,
                 description,
                 body,
-                footer
+                ConventionalCommitFooter.of(footerKeys, footerValues)
             );
         }
 
@@ -167,7 +179,7 @@ public class ConventionalCommit {
 
     private final String body;
 
-    private final Map<String, String> footer;
+    private final ConventionalCommitFooter footer;
 
     /**
      * All arguments constructor.
@@ -177,7 +189,8 @@ public class ConventionalCommit {
      * @param exclamation {@code true} if exclamation mark appears in the message, {@code false} otherwise
      * @param description Message description
      * @param body Full message body, might be multiline
-     * @param footer Key/value list of additional data. If {@code null}, an empty Map is set
+     * @param footer Key/value list of additional data, copied in its iteration order.
+     *               If {@code null}, an empty Map is set
      * @throws IllegalArgumentException If type or description is {@code null} or empty
      *
      * @since 1.0.0
@@ -190,11 +203,29 @@ public class ConventionalCommit {
         String body,
         Map<String, String> footer
     ) {
-        if (type == null || type.trim().isEmpty()) {
+        this(
+            type,
+            scope,
+            exclamation,
+            description,
+            body,
+            footer == null ? ConventionalCommitFooter.EMPTY : ConventionalCommitFooter.of(footer)
+        );
+    }
+
+    private ConventionalCommit(
+        String type,
+        String scope,
+        boolean exclamation,
+        String description,
+        String body,
+        ConventionalCommitFooter footer
+    ) {
+        if (type == null || isBlank(type)) {
             throw new IllegalArgumentException("Type is missing or empty");
         }
 
-        if (description == null || description.trim().isEmpty()) {
+        if (description == null || isBlank(description)) {
             throw new IllegalArgumentException("Description is missing or empty");
         }
 
@@ -203,9 +234,43 @@ public class ConventionalCommit {
         this.exclamation = exclamation;
         this.description = description;
         this.body = body;
-        this.footer = Optional.ofNullable(footer)
-            .map(Collections::unmodifiableMap)
-            .orElseGet(Collections::emptyMap);
+        this.footer = footer;
+    }
+
+    static ConventionalCommit of(
+        String type,
+        String scope,
+        boolean exclamation,
+        String description,
+        String body,
+        ConventionalCommitFooter footer
+    ) {
+        return new ConventionalCommit(type, scope, exclamation, description, body, footer);
+    }
+
+    /**
+     * Constructor for subclasses providing the body through an overridden accessor.
+     */
+    ConventionalCommit(
+        String type,
+        String scope,
+        boolean exclamation,
+        String description,
+        ConventionalCommitFooter footer
+    ) {
+        this(type, scope, exclamation, description, null, footer);
+    }
+
+    /**
+     * Constructor for subclasses providing values through overridden accessors.
+     */
+    ConventionalCommit() {
+        this.type = null;
+        this.scope = null;
+        this.exclamation = false;
+        this.description = null;
+        this.body = null;
+        this.footer = ConventionalCommitFooter.EMPTY;
     }
 
     /**
@@ -221,7 +286,7 @@ public class ConventionalCommit {
         String type,
         String description
     ) {
-        this(type, null, false, description, null, new HashMap<>());
+        this(type, null, false, description, null, ConventionalCommitFooter.EMPTY);
     }
 
     /**
@@ -283,23 +348,32 @@ public class ConventionalCommit {
     /**
      * Key/value footer list.
      *
-     * @return {@link Map} representing footer key/value
+     * @return Unmodifiable {@link Map} representing footer key/value; only the first value of a repeated key
+     * @see #footerEntries()
      *
      * @since 1.0.0
      */
     public Map<String, String> footer() {
-        return footer;
+        return footerEntries().asMap();
     }
 
-    private Predicate<String> isEmpty() {
-        return String::isEmpty;
+    /**
+     * Footer entries, in message order, including repeated keys.
+     *
+     * @return Footer entries
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitFooter footerEntries() {
+        return footer;
     }
 
     private boolean isNotBlank(String string) {
-        return Optional.ofNullable(string)
-            .map(String::trim)
-            .filter(isEmpty().negate())
-            .isPresent();
+        return !isBlank(string);
+    }
+
+    private static boolean isBlank(String string) {
+        return CharSequences.isBlank(string, 0, string.length());
     }
 
     /**
@@ -313,7 +387,50 @@ public class ConventionalCommit {
      * @since 1.0.0
      */
     public boolean breakingChange() {
-        return exclamation || footer.containsKey("BREAKING CHANGE");
+        return exclamation() || footerEntries().containsKey("BREAKING CHANGE");
+    }
+
+    /**
+     * <p>Compare with another conventional commit.</p>
+     *
+     * Conventional commits are equal if they have the same type, scope, exclamation mark,
+     * description, body and footer entries in the same order, whatever the way they have been created.
+     *
+     * @param other Object to compare with
+     * @return {@code true} if other object is an equal conventional commit, {@code false} otherwise
+     *
+     * @since 1.3.0
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof ConventionalCommit)) {
+            return false;
+        }
+
+        ConventionalCommit that = (ConventionalCommit) other;
+
+        return exclamation() == that.exclamation()
+            && type().equals(that.type())
+            && scope().equals(that.scope())
+            && description().equals(that.description())
+            && body().equals(that.body())
+            && footerEntries().equals(that.footerEntries());
+    }
+
+    /**
+     * Hash code consistent with {@link #equals(Object)}.
+     *
+     * @return Hash code
+     *
+     * @since 1.3.0
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(type(), scope(), exclamation(), description(), body(), footerEntries());
     }
 
     /**
@@ -337,51 +454,154 @@ public class ConventionalCommit {
      */
     @Override
     public String toString() {
-        return format(
-                "%s%s%s: %s%s%s",
-                type,
-                scopeToString(),
-                exclamationToString(),
-                description,
-                bodyToString(),
-                footerToString()
-            )
-            .trim();
-    }
+        StringBuilder message = new StringBuilder();
+
+        writeTo(message);
 
-    private String scopeToString() {
-        return scope()
-            .map(this::surroundScope)
-            .orElse(EMPTY_STRING);
+        return message.toString();
     }
 
-    private String exclamationToString() {
-        if (exclamation) {
-            return "!";
+    /**
+     * <p>Append conventional commit message to the given builder.</p>
+     *
+     * Appended characters are the same as {@link #toString()}, without intermediate strings.
+     *
+     * @param builder Builder to append message to
+     *
+     * @since 1.3.0
+     */
+    public void writeTo(StringBuilder builder) {
+        int start = builder.length();
+
+        MessageWriter writer = new MessageWriter(builder, null);
+
+        try {
+            write(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
 
-        return EMPTY_STRING;
+        builder.setLength(start + writer.end);
     }
 
-    private String bodyToString() {
-        return body()
-            .map(DOUBLE_NEWLINE::concat)
-            .orElse(EMPTY_STRING);
-    }
+    /**
+     * <p>Append conventional commit message to the given appendable.</p>
+     *
+     * Appended characters are the same as {@link #toString()}, without intermediate strings.
+     * Trailing whitespaces of each part are only appended once other characters follow them,
+     * so the message is appended in one pass.
+     *
+     * @param appendable Appendable to append message to, e.g. a {@link java.io.Writer}
+     * @throws IOException If appendable throws an exception
+     *
+     * @since 1.3.0
+     */
+    public void writeTo(Appendable appendable) throws IOException {
+        if (appendable instanceof StringBuilder) {
+            writeTo((StringBuilder) appendable);
+
+            return;
+        }
 
-    private String footerToString() {
-        return footer().entrySet()
-            .stream()
-            .map(this::joinFooterEntry)
-            .collect(joining(NEWLINE, DOUBLE_NEWLINE, EMPTY_STRING));
+        write(new MessageWriter(appendable, new StringBuilder()));
     }
 
-    private String joinFooterEntry(Map.Entry<String, String> entry) {
-        return format("%s%s%s", entry.getKey(), ": ", entry.getValue());
+    private void write(MessageWriter writer) throws IOException {
+        writer.append(type());
+
+        Optional<String> scope = scope();
+
+        if (scope.isPresent()) {
+            writer.append(SCOPE_START);
+            writer.append(scope.get());
+            writer.append(SCOPE_END);
+        }
+
+        if (exclamation()) {
+            writer.append(EXCLAMATION);
+        }
+
+        writer.append(SEPARATOR);
+        writer.append(description());
+
+        Optional<String> body = body();
+
+        if (body.isPresent()) {
+            writer.append(DOUBLE_NEWLINE);
+            writer.append(body.get());
+        }
+
+        ConventionalCommitFooter footer = footerEntries();
+
+        for (int index = 0; index < footer.size(); index++) {
+            writer.append(index == 0 ? DOUBLE_NEWLINE : NEWLINE);
+            writer.append(footer.key(index));
+            writer.append(SEPARATOR);
+            writer.append(footer.value(index));
+        }
     }
 
-    private String surroundScope(String scope) {
-        return format("(%s)", scope);
+    /**
+     * Writer trimming the message like {@link String#trim()}: leading whitespaces are skipped, and trailing
+     * whitespaces are either deferred until other characters follow them, or appended and then removed
+     * by the caller up to {@link #end}.
+     */
+    private static final class MessageWriter {
+
+        private static final String NULL = "null";
+
+        private final Appendable appendable;
+
+        /**
+         * Whitespaces appended last, {@code null} if whitespaces are appended right away.
+         */
+        private final StringBuilder pending;
+
+        private int length;
+
+        private int end;
+
+        private MessageWriter(Appendable appendable, StringBuilder pending) {
+            this.appendable = appendable;
+            this.pending = pending;
+        }
+
+        private void append(CharSequence value) throws IOException {
+            CharSequence text = value == null ? NULL : value;
+
+            int start = 0;
+
+            if (length == 0) {
+                while (start < text.length() && text.charAt(start) <= ' ') {
+                    start++;
+                }
+            }
+
+            int visibleEnd = start;
+
+            for (int index = text.length() - 1; index >= start; index--) {
+                if (text.charAt(index) > ' ') {
+                    visibleEnd = index + 1;
+                    end = length + visibleEnd - start;
+
+                    break;
+                }
+            }
+
+            if (pending == null) {
+                appendable.append(text, start, text.length());
+            } else {
+                if (visibleEnd > start) {
+                    appendable.append(pending).append(text, start, visibleEnd);
+                    pending.setLength(0);
+                }
+
+                pending.append(text, visibleEnd, text.length());
+            }
+
+            length += text.length() - start;
+        }
+
     }
 
 }
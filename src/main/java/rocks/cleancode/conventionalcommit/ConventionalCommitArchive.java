@@ -0,0 +1,255 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.String.format;
+
+/**
+ * <p>Archive file of conventional commit messages separated by a delimiter byte.</p>
+ *
+ * The file is memory-mapped and cut into segments on message boundaries, segments being parsed in
+ * parallel. Messages are expected to be UTF-8 encoded: headers are parsed directly on the mapped bytes,
+ * and description, body and footer are only decoded when they are read, so parsing a large archive
+ * only needs a small heap. Parsed commits keep their segment mapped until they are garbage collected.
+ *
+ * Messages are scanned on bytes, so a message with non-ASCII characters is longer in bytes than in characters.
+ * Results are still those of the decoded message: a message passing the parser limits in bytes passes them
+ * in characters, and a message with non-ASCII characters which fails on bytes is parsed again once decoded.
+ * Limits of {@link ConventionalCommitParser#withLimits(ConventionalCommitLimits)} and error offsets are thus
+ * counted in characters of the decoded message, as with {@link ConventionalCommitParser#tryParse(String)}.
+ *
+ * @since 1.3.0
+ */
+public final class ConventionalCommitArchive implements Closeable {
+
+    /**
+     * Default delimiter between messages, {@code NUL} byte as produced by {@code %x00} in git format.
+     *
+     * @since 1.3.0
+     */
+    public static final byte DEFAULT_DELIMITER = 0;
+
+    private static final long SEGMENT_SIZE = 32L * 1024 * 1024;
+
+    private static final int SCAN_BUFFER_SIZE = 8192;
+
+    private final ConventionalCommitParser parser;
+
+    private final FileChannel channel;
+
+    private final byte delimiter;
+
+    private final long segmentSize;
+
+    private ConventionalCommitArchive(
+        ConventionalCommitParser parser,
+        FileChannel channel,
+        byte delimiter,
+        long segmentSize
+    ) {
+        this.parser = parser;
+        this.channel = channel;
+        this.delimiter = delimiter;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Open an archive of messages separated by {@link #DEFAULT_DELIMITER}.
+     *
+     * @param parser Parser of conventional commit messages
+     * @param path Path of the archive
+     * @return Opened archive, to be closed
+     * @throws IOException If archive cannot be opened
+     *
+     * @since 1.3.0
+     */
+    public static ConventionalCommitArchive open(ConventionalCommitParser parser, Path path) throws IOException {
+        return open(parser, path, DEFAULT_DELIMITER);
+    }
+
+    /**
+     * Open an archive of messages separated by the given delimiter.
+     *
+     * @param parser Parser of conventional commit messages
+     * @param path Path of the archive
+     * @param delimiter Delimiter byte between messages
+     * @return Opened archive, to be closed
+     * @throws IOException If archive cannot be opened
+     *
+     * @since 1.3.0
+     */
+    public static ConventionalCommitArchive open(
+        ConventionalCommitParser parser,
+        Path path,
+        byte delimiter
+    ) throws IOException {
+        return open(parser, path, delimiter, SEGMENT_SIZE);
+    }
+
+    static ConventionalCommitArchive open(
+        ConventionalCommitParser parser,
+        Path path,
+        byte delimiter,
+        long segmentSize
+    ) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+
+        return new ConventionalCommitArchive(parser, channel, delimiter, segmentSize);
+    }
+
+    /**
+     * <p>Parallel stream of parsing results of all messages of the archive.</p>
+     *
+     * Order of the messages in the archive is kept. Blank messages are ignored,
+     * as well as whitespaces around each message.
+     *
+     * @return Parallel stream of parsing results
+     * @throws IOException If archive cannot be read
+     *
+     * @since 1.3.0
+     */
+    public Stream<ConventionalCommitParseResult> stream() throws IOException {
+        return segments()
+            .parallelStream()
+            .flatMap(this::parseSegment);
+    }
+
+    private List<long[]> segments() throws IOException {
+        List<long[]> segments = new ArrayList<>();
+
+        long size = channel.size();
+        long start = 0;
+
+        while (start < size) {
+            long end = nextDelimiter(Math.min(start + segmentSize, size), size);
+
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IOException(format("Message larger than %d bytes at offset %d", Integer.MAX_VALUE, start));
+            }
+
+            segments.add(new long[] { start, end });
+            start = end + 1;
+        }
+
+        return segments;
+    }
+
+    private long nextDelimiter(long from, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long position = from;
+
+        while (position < size) {
+            buffer.clear();
+
+            int read = channel.read(buffer, position);
+
+            for (int index = 0; index < read; index++) {
+                if (buffer.get(index) == delimiter) {
+                    return position + index;
+                }
+            }
+
+            position += read;
+        }
+
+        return size;
+    }
+
+    private Stream<ConventionalCommitParseResult> parseSegment(long[] segment) {
+        MappedByteBuffer bytes = map(segment[0], segment[1] - segment[0]);
+
+        Spliterator<ConventionalCommitParseResult> spliterator =
+            new Spliterators.AbstractSpliterator<ConventionalCommitParseResult>(
+                Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL
+            ) {
+
+                private int position;
+
+                @Override
+                public boolean tryAdvance(Consumer<? super ConventionalCommitParseResult> action) {
+                    while (position < bytes.limit()) {
+                        int start = position;
+                        int end = start;
+
+                        while (end < bytes.limit() && bytes.get(end) != delimiter) {
+                            end++;
+                        }
+
+                        position = end + 1;
+
+                        Utf8CharSequence message = trim(bytes, start, end);
+
+                        if (message.length() > 0) {
+                            action.accept(parse(message));
+
+                            return true;
+                        }
+                    }
+
+                    return false;
+                }
+
+            };
+
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    private MappedByteBuffer map(long start, long size) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Utf8CharSequence trim(ByteBuffer bytes, int start, int end) {
+        Utf8CharSequence message = new Utf8CharSequence(bytes, start, end - start);
+
+        int trimStart = CharSequences.trimStart(message, 0, message.length());
+        int trimEnd = CharSequences.trimEnd(message, trimStart, message.length());
+
+        return new Utf8CharSequence(bytes, start + trimStart, trimEnd - trimStart);
+    }
+
+    private ConventionalCommitParseResult parse(Utf8CharSequence message) {
+        if (message.hasUnicodeLineTerminator()) {
+            return parser.tryParse(message.toString());
+        }
+
+        ConventionalCommitParseResult result = parser.tryParseView(message);
+
+        if (!result.isSuccess() && !message.isAscii()) {
+            return parser.tryParse(message.toString());
+        }
+
+        return result;
+    }
+
+    /**
+     * Close the archive file.
+     *
+     * @throws IOException If archive cannot be closed
+     *
+     * @since 1.3.0
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
@@ -0,0 +1,91 @@
+package rocks.cleancode.conventionalcommit;
+
+import static java.lang.String.format;
+
+/**
+ * <p>Snapshot of cache statistics.</p>
+ *
+ * Counters are cumulated since the creation of the cache; they are not reset by eviction.
+ *
+ * @since 1.3.0
+ */
+public final class ConventionalCommitCacheStatistics {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long evictionCount;
+
+    private final int size;
+
+    ConventionalCommitCacheStatistics(long hitCount, long missCount, long evictionCount, int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * Number of lookups which found a cached value.
+     *
+     * @return Number of hits
+     *
+     * @since 1.3.0
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Number of lookups which had to create the value.
+     *
+     * @return Number of misses
+     *
+     * @since 1.3.0
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Number of values removed from the cache to respect its bounds.
+     *
+     * @return Number of evictions
+     *
+     * @since 1.3.0
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Number of values in the cache.
+     *
+     * @return Number of cached values
+     *
+     * @since 1.3.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Ratio of lookups which found a cached value.
+     *
+     * @return Hit rate between {@code 0} and {@code 1}, {@code 1} if there was no lookup
+     *
+     * @since 1.3.0
+     */
+    public double hitRate() {
+        long requestCount = hitCount + missCount;
+
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return format("hits=%d, misses=%d, evictions=%d, size=%d", hitCount, missCount, evictionCount, size);
+    }
+
+}
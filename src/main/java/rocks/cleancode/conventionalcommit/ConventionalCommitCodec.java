@@ -0,0 +1,574 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * <p>Compact binary codec of conventional commits, to store parsed commits without parsing them again.</p>
+ *
+ * Each commit is written as:
+ * <ol>
+ *     <li>a flags byte, telling whether scope, exclamation mark, body and footer are present,</li>
+ *     <li>the type, as a varint id in the declared type table, {@code 0} being followed by the type itself
+ *     for types which are not in the table,</li>
+ *     <li>the description, then the scope and the body when they are present,</li>
+ *     <li>when the footer is present, the number of entries followed by keys and values, in message order.</li>
+ * </ol>
+ * Strings are written as their varint UTF-8 length followed by their UTF-8 bytes.
+ *
+ * Files written by {@link #writeAll(Iterable, Path)} start with a magic number, the {@link #VERSION format version}
+ * and the type table, followed by the commits. They can be read by any codec, whatever its type table.
+ * Codecs are immutable and can be shared between threads.
+ *
+ * @since 1.3.0
+ */
+public final class ConventionalCommitCodec {
+
+    /**
+     * Version of the binary format written by this codec.
+     *
+     * @since 1.3.0
+     */
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x43434246;
+
+    private static final int SCOPE = 1;
+
+    private static final int EXCLAMATION = 1 << 1;
+
+    private static final int BODY = 1 << 2;
+
+    private static final int FOOTER = 1 << 3;
+
+    private static final int KNOWN_FLAGS = SCOPE | EXCLAMATION | BODY | FOOTER;
+
+    private static final int INLINE_TYPE = 0;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final int PREALLOCATED_ENTRIES = 16;
+
+    private final List<String> types;
+
+    private final Map<String, Integer> typeIds;
+
+    /**
+     * Default constructor with {@link ConventionalCommitParser#RECOMMENDED_TYPES recommended types} as type table.
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitCodec() {
+        this(ConventionalCommitParser.RECOMMENDED_TYPES);
+    }
+
+    /**
+     * Constructor with declared type table. Commits of other types are written with their type.
+     *
+     * @param types Declared types
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitCodec(List<String> types) {
+        this.types = unmodifiableList(new ArrayList<>(types));
+        this.typeIds = new HashMap<>();
+
+        for (int index = 0; index < this.types.size(); index++) {
+            typeIds.putIfAbsent(this.types.get(index), index + 1);
+        }
+    }
+
+    /**
+     * Write one commit.
+     *
+     * @param commit Conventional commit
+     * @param output Output of the commit
+     * @throws IOException If commit cannot be written
+     *
+     * @since 1.3.0
+     */
+    public void write(ConventionalCommit commit, DataOutput output) throws IOException {
+        String scope = commit.scope().orElse(null);
+        String body = commit.body().orElse(null);
+        ConventionalCommitFooter footer = commit.footerEntries();
+
+        int flags = (scope == null ? 0 : SCOPE)
+            | (commit.exclamation() ? EXCLAMATION : 0)
+            | (body == null ? 0 : BODY)
+            | (footer.isEmpty() ? 0 : FOOTER);
+
+        output.writeByte(flags);
+
+        Integer typeId = typeIds.get(commit.type());
+
+        if (typeId == null) {
+            writeVarint(output, INLINE_TYPE);
+            writeString(output, commit.type());
+        } else {
+            writeVarint(output, typeId);
+        }
+
+        writeString(output, commit.description());
+
+        if (scope != null) {
+            writeString(output, scope);
+        }
+
+        if (body != null) {
+            writeString(output, body);
+        }
+
+        if (!footer.isEmpty()) {
+            writeVarint(output, footer.size());
+
+            for (int entry = 0; entry < footer.size(); entry++) {
+                writeString(output, footer.key(entry));
+                writeString(output, footer.value(entry));
+            }
+        }
+    }
+
+    /**
+     * Read one commit, written by a codec with the same type table.
+     *
+     * @param input Input of the commit
+     * @return Conventional commit
+     * @throws IOException If commit cannot be read, is truncated or is corrupt
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommit read(DataInput input) throws IOException {
+        return new DataInputDecoder(input, types).read();
+    }
+
+    /**
+     * Write commits to a file, replacing its content.
+     *
+     * @param commits Conventional commits
+     * @param path Path of the file
+     * @throws IOException If file cannot be written
+     *
+     * @since 1.3.0
+     */
+    public void writeAll(Iterable<? extends ConventionalCommit> commits, Path path) throws IOException {
+        try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE)) {
+            DataOutputStream output = new DataOutputStream(stream);
+
+            output.writeInt(MAGIC);
+            writeVarint(output, VERSION);
+            writeVarint(output, types.size());
+
+            for (String type : types) {
+                writeString(output, type);
+            }
+
+            for (ConventionalCommit commit : commits) {
+                write(commit, output);
+            }
+        }
+    }
+
+    /**
+     * Read all commits of a file written by {@link #writeAll(Iterable, Path)}.
+     *
+     * @param path Path of the file
+     * @return Conventional commits, in written order
+     * @throws IOException If file cannot be read, has not the expected format or version, is truncated or is corrupt
+     *
+     * @since 1.3.0
+     */
+    public List<ConventionalCommit> readAll(Path path) throws IOException {
+        try (InputStream stream = Files.newInputStream(path)) {
+            StreamDecoder decoder = new StreamDecoder(stream);
+            List<ConventionalCommit> commits = new ArrayList<>();
+
+            while (decoder.hasRemaining()) {
+                commits.add(decoder.read());
+            }
+
+            return commits;
+        }
+    }
+
+    /**
+     * <p>Stream of the commits of a file written by {@link #writeAll(Iterable, Path)}.</p>
+     *
+     * Commits are read lazily, as the stream is consumed. Closing the stream closes the file.
+     *
+     * @param path Path of the file
+     * @return Sequential stream of conventional commits, in written order
+     * @throws IOException If file cannot be opened, or has not the expected format
+     * @throws UncheckedIOException If file cannot be read while the stream is consumed
+     *
+     * @since 1.3.0
+     */
+    public Stream<ConventionalCommit> stream(Path path) throws IOException {
+        InputStream stream = Files.newInputStream(path);
+        StreamDecoder decoder;
+
+        try {
+            decoder = new StreamDecoder(stream);
+        } catch (IOException e) {
+            stream.close();
+
+            throw e;
+        }
+
+        Spliterator<ConventionalCommit> spliterator = new Spliterators.AbstractSpliterator<ConventionalCommit>(
+            Long.MAX_VALUE,
+            Spliterator.ORDERED | Spliterator.NONNULL
+        ) {
+
+            @Override
+            public boolean tryAdvance(Consumer<? super ConventionalCommit> action) {
+                try {
+                    if (!decoder.hasRemaining()) {
+                        return false;
+                    }
+
+                    action.accept(decoder.read());
+
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+        };
+
+        return StreamSupport.stream(spliterator, false)
+            .onClose(() -> {
+                try {
+                    stream.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    private static void writeString(DataOutput output, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+
+        writeVarint(output, bytes.length);
+        output.write(bytes);
+    }
+
+    private static void writeVarint(DataOutput output, int value) throws IOException {
+        int remaining = value;
+
+        while ((remaining & ~0x7F) != 0) {
+            output.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+
+        output.writeByte(remaining);
+    }
+
+    /**
+     * Reader of commits, decoding strings from a byte range of a buffer.
+     * As a character sequence, the decoder is the bytes of the last read string.
+     * Counts and lengths of corrupt input are not trusted: arrays grow with the bytes actually read,
+     * so that input ending before them fails with an {@link EOFException} instead of a large allocation.
+     */
+    private abstract static class Decoder implements CharSequence {
+
+        List<String> types;
+
+        byte[] buffer;
+
+        int start;
+
+        int length;
+
+        private Decoder(List<String> types) {
+            this.types = types;
+        }
+
+        abstract int readUnsignedByte() throws IOException;
+
+        /**
+         * Read the given number of bytes, available from {@link #start} in {@link #buffer}.
+         */
+        abstract void readBytes(int length) throws IOException;
+
+        ConventionalCommit read() throws IOException {
+            int flags = readUnsignedByte();
+
+            if ((flags & ~KNOWN_FLAGS) != 0) {
+                throw new IOException("Unknown flags " + flags);
+            }
+
+            int typeId = readVarint();
+            String type;
+
+            if (typeId == INLINE_TYPE) {
+                type = readString();
+            } else if (typeId > 0 && typeId <= types.size()) {
+                type = types.get(typeId - 1);
+            } else {
+                throw new IOException("Unknown type id " + typeId);
+            }
+
+            String description = readString();
+
+            // Checked here so that corrupt records fail like other corrupt input, not in the commit constructor
+            if (CharSequences.isBlank(type, 0, type.length())) {
+                throw new IOException("Blank type");
+            }
+
+            if (CharSequences.isBlank(description, 0, description.length())) {
+                throw new IOException("Blank description");
+            }
+
+            String scope = (flags & SCOPE) == 0 ? null : readCanonical(ConventionalCommitParser.CANONICAL_NAMES);
+            String body = (flags & BODY) == 0 ? null : readString();
+            ConventionalCommitFooter footer = ConventionalCommitFooter.EMPTY;
+
+            if ((flags & FOOTER) != 0) {
+                int count = readCount();
+                String[] keys = new String[Math.min(count, PREALLOCATED_ENTRIES)];
+                String[] values = new String[keys.length];
+
+                for (int entry = 0; entry < count; entry++) {
+                    if (entry == keys.length) {
+                        keys = Arrays.copyOf(keys, (int) Math.min(count, 2L * keys.length));
+                        values = Arrays.copyOf(values, keys.length);
+                    }
+
+                    keys[entry] = readCanonical(ConventionalCommitParser.CANONICAL_NAMES);
+                    values[entry] = readCanonical(ConventionalCommitParser.CANONICAL_VALUES);
+                }
+
+                footer = new ConventionalCommitFooter(keys, values);
+            }
+
+            return ConventionalCommit.of(type, scope, (flags & EXCLAMATION) != 0, description, body, footer);
+        }
+
+        int readVarint() throws IOException {
+            int value = 0;
+
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                int next = readUnsignedByte();
+
+                value |= (next & 0x7F) << shift;
+
+                if ((next & 0x80) == 0) {
+                    return value;
+                }
+            }
+
+            throw new IOException("Malformed varint");
+        }
+
+        int readCount() throws IOException {
+            int count = readVarint();
+
+            if (count < 0) {
+                throw new IOException("Malformed count " + count);
+            }
+
+            return count;
+        }
+
+        String readString() throws IOException {
+            readStringBytes();
+
+            return new String(buffer, start, length, UTF_8);
+        }
+
+        /**
+         * Read a string, shared with parsed commits if it is in the canonical table.
+         * Non-ASCII bytes are seen as characters out of ASCII range, so that the table decodes the whole string.
+         */
+        private String readCanonical(CanonicalStrings canonicalStrings) throws IOException {
+            readStringBytes();
+
+            return canonicalStrings.canonical(this, 0, length);
+        }
+
+        private void readStringBytes() throws IOException {
+            readBytes(readCount());
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) buffer[start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return new String(buffer, start + from, to - from, UTF_8);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, start, length, UTF_8);
+        }
+
+    }
+
+    /**
+     * Decoder of one commit, reading nothing after it.
+     */
+    private static final class DataInputDecoder extends Decoder {
+
+        private final DataInput input;
+
+        private DataInputDecoder(DataInput input, List<String> types) {
+            super(types);
+            this.input = input;
+            this.buffer = new byte[64];
+        }
+
+        @Override
+        int readUnsignedByte() throws IOException {
+            return input.readUnsignedByte();
+        }
+
+        @Override
+        void readBytes(int length) throws IOException {
+            int read = Math.min(length, buffer.length);
+
+            input.readFully(buffer, 0, read);
+
+            while (read < length) {
+                buffer = Arrays.copyOf(buffer, (int) Math.min(length, 2L * buffer.length));
+                input.readFully(buffer, read, buffer.length - read);
+                read = buffer.length;
+            }
+
+            this.start = 0;
+            this.length = length;
+        }
+
+    }
+
+    /**
+     * Decoder of a file, reading it by blocks in a buffer and decoding strings in place.
+     */
+    private static final class StreamDecoder extends Decoder {
+
+        private final InputStream stream;
+
+        private int position;
+
+        private int limit;
+
+        /**
+         * Constructor, reading the file header.
+         */
+        private StreamDecoder(InputStream stream) throws IOException {
+            super(null);
+            this.stream = stream;
+            this.buffer = new byte[BUFFER_SIZE];
+
+            if (readInt() != MAGIC) {
+                throw new IOException("Not a conventional commit file");
+            }
+
+            int version = readVarint();
+
+            if (version != VERSION) {
+                throw new IOException("Unsupported conventional commit file version " + version);
+            }
+
+            int typeCount = readCount();
+            List<String> fileTypes = new ArrayList<>(Math.min(typeCount, PREALLOCATED_ENTRIES));
+
+            for (int index = 0; index < typeCount; index++) {
+                fileTypes.add(readString().intern());
+            }
+
+            this.types = fileTypes;
+        }
+
+        private boolean hasRemaining() throws IOException {
+            return position < limit || fill(1);
+        }
+
+        private int readInt() throws IOException {
+            return readUnsignedByte() << 24 | readUnsignedByte() << 16 | readUnsignedByte() << 8 | readUnsignedByte();
+        }
+
+        @Override
+        int readUnsignedByte() throws IOException {
+            if (position == limit && !fill(1)) {
+                throw new EOFException();
+            }
+
+            return buffer[position++] & 0xFF;
+        }
+
+        @Override
+        void readBytes(int length) throws IOException {
+            if (limit - position < length && !fill(length)) {
+                throw new EOFException();
+            }
+
+            this.start = position;
+            this.length = length;
+
+            position += length;
+        }
+
+        /**
+         * Read from the stream until at least the given number of bytes are buffered after the position.
+         *
+         * @return {@code false} if the stream ends before
+         */
+        private boolean fill(int required) throws IOException {
+            int remaining = limit - position;
+
+            System.arraycopy(buffer, position, buffer, 0, remaining);
+
+            position = 0;
+            limit = remaining;
+
+            while (limit < required) {
+                if (limit == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, (int) Math.min(required, 2L * buffer.length));
+                }
+
+                int read = stream.read(buffer, limit, buffer.length - limit);
+
+                if (read < 0) {
+                    return false;
+                }
+
+                limit += read;
+            }
+
+            return true;
+        }
+
+    }
+
+}
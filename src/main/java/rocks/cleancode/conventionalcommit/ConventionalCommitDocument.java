@@ -0,0 +1,241 @@
+package rocks.cleancode.conventionalcommit;
+
+/**
+ * <p>Conventional commit message being edited, with its parsing result.</p>
+ *
+ * Documents are immutable: an edit returns a new document, parsed incrementally from the previous one.
+ * The header is only scanned again when the edit touches the characters it has been parsed from,
+ * and the footer likewise; the body in between is taken from the edited text. The result of an edit
+ * is always the same as parsing the whole edited text, in a time which mostly depends on the size of the edit,
+ * so that editors can parse the message on each keystroke.
+ *
+ * @see ConventionalCommitParser#open(String)
+ *
+ * @since 1.3.0
+ */
+public final class ConventionalCommitDocument {
+
+    private static final class Header {
+
+        private final ConventionalCommitParseResult failure;
+
+        private final String type;
+
+        private final String scope;
+
+        private final boolean exclamation;
+
+        private final String description;
+
+        private final int end;
+
+        /**
+         * Offset of the last character the header depends on, {@link Integer#MAX_VALUE} if it depends
+         * on the end of the text.
+         */
+        private final int inspectedEnd;
+
+        private Header(ConventionalCommitParser parser, String text) {
+            InspectedCharSequence inspected = new InspectedCharSequence(text);
+            ConventionalCommitMessage message = parser.header(inspected);
+
+            this.failure = parser.headerFailure(inspected, message);
+
+            if (failure == null) {
+                this.type = message.type();
+                this.scope = ConventionalCommitParser.scope(inspected, message);
+                this.exclamation = message.exclamation();
+                this.description = message.description();
+                this.end = message.end();
+            } else {
+                this.type = null;
+                this.scope = null;
+                this.exclamation = false;
+                this.description = null;
+                this.end = 0;
+            }
+
+            this.inspectedEnd = inspected.highest() >= text.length() - 1 ? Integer.MAX_VALUE : inspected.highest();
+        }
+
+    }
+
+    private static final class Footer {
+
+        private final int start;
+
+        private final ConventionalCommitFooter entries;
+
+        /**
+         * Start of the first line over the maximum number of footer lines, {@code -1} if there is none.
+         */
+        private final int excessLineStart;
+
+        /**
+         * Offset of the first character the footer depends on, {@link Integer#MIN_VALUE} if it depends
+         * on the start of the text.
+         */
+        private final int inspectedStart;
+
+        private Footer(ConventionalCommitParser parser, String text) {
+            InspectedCharSequence inspected = new InspectedCharSequence(text);
+            ConventionalCommitFooterScanner scanner =
+                new ConventionalCommitFooterScanner(inspected, parser.limits().maxFooterLines());
+
+            this.start = scanner.start();
+            this.excessLineStart = scanner.excessLineStart();
+            this.entries = excessLineStart < 0
+                ? ConventionalCommitFooterScanner.footer(inspected, scanner.entries(), 0)
+                : ConventionalCommitFooter.EMPTY;
+            this.inspectedStart = inspected.lowest() <= 0 ? Integer.MIN_VALUE : inspected.lowest();
+        }
+
+        private Footer(Footer previous, int delta) {
+            this.start = previous.start + delta;
+            this.entries = previous.entries;
+            this.excessLineStart = previous.excessLineStart < 0
+                ? previous.excessLineStart
+                : previous.excessLineStart + delta;
+            this.inspectedStart = previous.inspectedStart == Integer.MIN_VALUE
+                ? Integer.MIN_VALUE
+                : previous.inspectedStart + delta;
+        }
+
+    }
+
+    private final ConventionalCommitParser parser;
+
+    private final String text;
+
+    private final Header header;
+
+    private final Footer footer;
+
+    private final ConventionalCommitParseResult result;
+
+    private final boolean headerScanned;
+
+    private final boolean footerScanned;
+
+    ConventionalCommitDocument(ConventionalCommitParser parser, String text) {
+        this.parser = parser;
+        this.text = text;
+        this.header = new Header(parser, text);
+        this.footer = header.failure == null ? new Footer(parser, text) : null;
+        this.result = parse();
+        this.headerScanned = true;
+        this.footerScanned = footer != null;
+    }
+
+    private ConventionalCommitDocument(
+        ConventionalCommitDocument previous,
+        String text,
+        int editStart,
+        int editEnd,
+        int delta
+    ) {
+        this.parser = previous.parser;
+        this.text = text;
+        this.headerScanned = editStart <= previous.header.inspectedEnd
+            || Math.max(previous.text.length(), text.length()) > parser.uncheckedLength();
+        this.header = headerScanned ? new Header(parser, text) : previous.header;
+
+        if (header.failure != null) {
+            this.footer = null;
+            this.footerScanned = false;
+        } else if (previous.footer != null && editEnd <= previous.footer.inspectedStart) {
+            this.footer = new Footer(previous.footer, delta);
+            this.footerScanned = false;
+        } else {
+            this.footer = new Footer(parser, text);
+            this.footerScanned = true;
+        }
+
+        this.result = parse();
+    }
+
+    /**
+     * Text of the message.
+     *
+     * @return Full message
+     *
+     * @since 1.3.0
+     */
+    public String text() {
+        return text;
+    }
+
+    /**
+     * Result of parsing the message, with the error code and offset when the message is not valid.
+     *
+     * @return Parsing result, equal to {@link ConventionalCommitParser#tryParse(String)} of {@link #text()}
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitParseResult result() {
+        return result;
+    }
+
+    /**
+     * Replace a range of the message.
+     *
+     * @param offset Offset of the first replaced character
+     * @param removedLength Number of replaced characters, {@code 0} for an insertion
+     * @param inserted Inserted text, empty for a deletion
+     * @return Edited document
+     * @throws IndexOutOfBoundsException If the range is not in the message
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitDocument edit(int offset, int removedLength, String inserted) {
+        if (offset < 0 || removedLength < 0 || offset > text.length() - removedLength) {
+            throw new IndexOutOfBoundsException(
+                "Range [" + offset + ", " + offset + " + " + removedLength + ") is out of bounds of length "
+                    + text.length()
+            );
+        }
+
+        int editEnd = offset + removedLength;
+
+        String edited = new StringBuilder(text.length() - removedLength + inserted.length())
+            .append(text, 0, offset)
+            .append(inserted)
+            .append(text, editEnd, text.length())
+            .toString();
+
+        return new ConventionalCommitDocument(this, edited, offset, editEnd, inserted.length() - removedLength);
+    }
+
+    boolean headerScanned() {
+        return headerScanned;
+    }
+
+    boolean footerScanned() {
+        return footerScanned;
+    }
+
+    private ConventionalCommitParseResult parse() {
+        if (header.failure != null) {
+            return header.failure;
+        }
+
+        if (footer.excessLineStart >= 0) {
+            return ConventionalCommitParseResult.failure(
+                ConventionalCommitParseError.TOO_MANY_FOOTER_LINES,
+                footer.excessLineStart
+            );
+        }
+
+        return ConventionalCommitParseResult.success(
+            ConventionalCommit.of(
+                header.type,
+                header.scope,
+                header.exclamation,
+                header.description,
+                ConventionalCommitParser.body(text, header.end, footer.start),
+                footer.entries
+            )
+        );
+    }
+
+}
@@ -1,76 +1,355 @@
 package rocks.cleancode.conventionalcommit;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
 
-import static java.lang.String.format;
-import static java.util.stream.Collectors.toMap;
+/**
+ * <p>Footer entries of a conventional commit, in message order.</p>
+ *
+ * A key might appear several times, e.g. several {@code Co-authored-by} entries.
+ * Keys and values are kept in two arrays, without hash table nor entry objects: footers have a few entries,
+ * so lookups are linear.
+ *
+ * @since 1.3.0
+ */
+public final class ConventionalCommitFooter implements Iterable<Map.Entry<String, String>> {
 
-class ConventionalCommitFooter {
+    static final ConventionalCommitFooter EMPTY = new ConventionalCommitFooter(new String[0], new String[0]);
 
-    private static final String NEWLINE_REGEX = "\\r?\\n";
+    private static final int NOT_FOUND = -1;
 
-    private static final String KEY_REGEX = "(?:[^ :]+|BREAKING CHANGE)";
+    private final String[] keys;
 
-    private static final String FOOTER_SEPARATOR = ": ";
+    private final String[] values;
 
-    private static final String FOOTER_REGEX = format(
-            "((?:%s){2}(%s%s.+(?:%s%s%s.+)*))$",
-            NEWLINE_REGEX,
-            KEY_REGEX,
-            FOOTER_SEPARATOR,
-            NEWLINE_REGEX,
-            KEY_REGEX,
-            FOOTER_SEPARATOR
-    );
+    private Map<String, String> map;
 
-    private static final Pattern FOOTER_PATTERN = Pattern.compile(FOOTER_REGEX);
+    /**
+     * Constructor.
+     *
+     * @param keys Keys of entries, in message order; kept without copy
+     * @param values Values of entries, in the same order as keys; kept without copy
+     */
+    ConventionalCommitFooter(String[] keys, String[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    static ConventionalCommitFooter of(Map<String, String> footer) {
+        if (footer.isEmpty()) {
+            return EMPTY;
+        }
+
+        String[] keys = new String[footer.size()];
+        String[] values = new String[footer.size()];
+        int index = 0;
+
+        for (Map.Entry<String, String> entry : footer.entrySet()) {
+            keys[index] = entry.getKey();
+            values[index] = entry.getValue();
+            index++;
+        }
+
+        return new ConventionalCommitFooter(keys, values);
+    }
+
+    static ConventionalCommitFooter of(List<String> keys, List<String> values) {
+        if (keys.isEmpty()) {
+            return EMPTY;
+        }
+
+        return new ConventionalCommitFooter(keys.toArray(new String[0]), values.toArray(new String[0]));
+    }
+
+    /**
+     * Number of entries, including entries with the same key.
+     *
+     * @return Number of entries
+     *
+     * @since 1.3.0
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Footer without any entry.
+     *
+     * @return {@code true} if there is no entry, {@code false} otherwise
+     *
+     * @since 1.3.0
+     */
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    /**
+     * Key of the entry at the given position.
+     *
+     * @param index Position of the entry, in message order
+     * @return Key of the entry
+     * @throws IndexOutOfBoundsException If there is no entry at this position
+     *
+     * @since 1.3.0
+     */
+    public String key(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Value of the entry at the given position.
+     *
+     * @param index Position of the entry, in message order
+     * @return Value of the entry
+     * @throws IndexOutOfBoundsException If there is no entry at this position
+     *
+     * @since 1.3.0
+     */
+    public String value(int index) {
+        return values[index];
+    }
+
+    /**
+     * Footer contains the given key.
+     *
+     * @param key Key of the entry
+     * @return {@code true} if at least one entry has this key, {@code false} otherwise
+     *
+     * @since 1.3.0
+     */
+    public boolean containsKey(Object key) {
+        return indexOf(key, 0) != NOT_FOUND;
+    }
+
+    /**
+     * Value of the first entry with the given key.
+     *
+     * @param key Key of the entry
+     * @return {@link Optional} with the first value; empty if there is no entry with this key
+     *
+     * @since 1.3.0
+     */
+    public Optional<String> get(String key) {
+        int index = indexOf(key, 0);
+
+        return index == NOT_FOUND ? Optional.empty() : Optional.ofNullable(values[index]);
+    }
+
+    /**
+     * Values of all entries with the given key.
+     *
+     * @param key Key of the entries
+     * @return Values, in message order; empty if there is no entry with this key
+     *
+     * @since 1.3.0
+     */
+    public List<String> getAll(String key) {
+        List<String> all = new ArrayList<>(1);
+
+        for (int index = indexOf(key, 0); index != NOT_FOUND; index = indexOf(key, index + 1)) {
+            all.add(values[index]);
+        }
+
+        return Collections.unmodifiableList(all);
+    }
+
+    /**
+     * Entries, in message order.
+     *
+     * @return Iterator of immutable entries
+     *
+     * @since 1.3.0
+     */
+    @Override
+    public Iterator<Map.Entry<String, String>> iterator() {
+        return new EntryIterator(null);
+    }
+
+    /**
+     * <p>Unmodifiable {@link Map} view of the footer.</p>
+     *
+     * Entries are iterated in message order. When a key appears several times, only its first value is kept.
+     *
+     * @return Unmodifiable map view
+     *
+     * @since 1.3.0
+     */
+    public Map<String, String> asMap() {
+        if (map == null) {
+            map = new MapView();
+        }
+
+        return map;
+    }
+
+    /**
+     * Compare with another footer: footers are equal if they have the same entries, in the same order.
+     *
+     * @param other Object to compare with
+     * @return {@code true} if other object is an equal footer, {@code false} otherwise
+     *
+     * @since 1.3.0
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof ConventionalCommitFooter)) {
+            return false;
+        }
+
+        ConventionalCommitFooter that = (ConventionalCommitFooter) other;
+
+        return Arrays.equals(keys, that.keys) && Arrays.equals(values, that.values);
+    }
 
-    private final String raw;
+    /**
+     * Hash code consistent with {@link #equals(Object)}.
+     *
+     * @return Hash code
+     *
+     * @since 1.3.0
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(keys) + Arrays.hashCode(values);
+    }
 
-    private final Map<String, String> footer;
+    /**
+     * Footer entries, one per line, as written by {@link ConventionalCommit#writeTo(Appendable)}.
+     *
+     * @return Footer as written in a message
+     *
+     * @since 1.3.0
+     */
+    @Override
+    public String toString() {
+        StringBuilder footer = new StringBuilder();
 
-    ConventionalCommitFooter(String fullCommitMessage) {
-        Matcher matcher = FOOTER_PATTERN.matcher(fullCommitMessage);
+        for (int index = 0; index < keys.length; index++) {
+            if (index > 0) {
+                footer.append(ConventionalCommit.NEWLINE);
+            }
 
-        if (matcher.find()) {
-            raw = matcher.group(1);
-            footer = parseFooters(matcher.group(2));
-        } else {
-            raw = "";
-            footer = new HashMap<>();
+            footer.append(keys[index]).append(ConventionalCommit.SEPARATOR).append(values[index]);
         }
+
+        return footer.toString();
     }
 
-    public String raw() {
-        return raw;
+    private int indexOf(Object key, int from) {
+        for (int index = from; index < keys.length; index++) {
+            if (keys[index] == null ? key == null : keys[index].equals(key)) {
+                return index;
+            }
+        }
+
+        return NOT_FOUND;
     }
 
-    public Map<String, String> footer() {
-        return footer;
+    /**
+     * Positions of the first entry of each key, in message order.
+     */
+    private int[] firstOccurrences() {
+        Set<String> seen = new HashSet<>();
+        int[] firstOccurrences = new int[keys.length];
+        int count = 0;
+
+        for (int index = 0; index < keys.length; index++) {
+            if (seen.add(keys[index])) {
+                firstOccurrences[count++] = index;
+            }
+        }
+
+        return count == keys.length ? null : Arrays.copyOf(firstOccurrences, count);
     }
 
-    private Map<String, String> parseFooters(String rawFooter) {
-        String[] split = rawFooter.split("\\r?\\n");
+    private final class EntryIterator implements Iterator<Map.Entry<String, String>> {
+
+        /**
+         * Positions of iterated entries, {@code null} to iterate all entries.
+         */
+        private final int[] positions;
+
+        private int cursor;
+
+        private EntryIterator(int[] positions) {
+            this.positions = positions;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < (positions == null ? keys.length : positions.length);
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            int index = positions == null ? cursor : positions[cursor];
+
+            cursor++;
+
+            return new AbstractMap.SimpleImmutableEntry<>(keys[index], values[index]);
+        }
 
-        return Arrays.stream(split)
-                .map(this::parseFooter)
-                .collect(toMap(
-                        array -> array[0],
-                        array -> array[1]
-                ));
     }
 
-    private String[] parseFooter(String rawFooter) {
-        int separatorIndex = rawFooter.indexOf(": ");
+    private final class MapView extends AbstractMap<String, String> {
+
+        /**
+         * Positions of the first entry of each key, {@code null} if all keys are distinct.
+         */
+        private final int[] firstOccurrences = firstOccurrences();
+
+        @Override
+        public int size() {
+            return firstOccurrences == null ? keys.length : firstOccurrences.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return ConventionalCommitFooter.this.containsKey(key);
+        }
+
+        @Override
+        public String get(Object key) {
+            int index = indexOf(key, 0);
+
+            return index == NOT_FOUND ? null : values[index];
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<Entry<String, String>>() {
+
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new EntryIterator(firstOccurrences);
+                }
+
+                @Override
+                public int size() {
+                    return MapView.this.size();
+                }
+
+            };
+        }
 
-        return new String[] {
-                rawFooter.substring(0, separatorIndex),
-                rawFooter.substring(separatorIndex + 2)
-        };
     }
 
 }
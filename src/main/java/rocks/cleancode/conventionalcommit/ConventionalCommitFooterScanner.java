@@ -0,0 +1,316 @@
+package rocks.cleancode.conventionalcommit;
+
+import static rocks.cleancode.conventionalcommit.ConventionalCommitHeaderMatcher.isLineTerminator;
+
+class ConventionalCommitFooterScanner {
+
+    private static final String BREAKING_CHANGE_KEY = "BREAKING CHANGE";
+
+    private static final String FOOTER_SEPARATOR = ": ";
+
+    static final int ENTRY_OFFSETS = 4;
+
+    private static final int NOT_FOUND = -1;
+
+    private final CharSequence fullCommitMessage;
+
+    private final int start;
+
+    private final int firstEntryStart;
+
+    private final int end;
+
+    private final int excessLineStart;
+
+    /**
+     * Constructor scanning at most the given number of footer lines, backwards from the end of the message.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @param maxLines Maximum number of footer lines
+     */
+    ConventionalCommitFooterScanner(CharSequence fullCommitMessage, int maxLines) {
+        this.fullCommitMessage = fullCommitMessage;
+        this.end = endOfFooter(fullCommitMessage);
+
+        int firstEntryStart = NOT_FOUND;
+        int excessLineStart = NOT_FOUND;
+        int lines = 0;
+        int lineEnd = end;
+
+        while (lineEnd >= 0) {
+            int newline = lastNewline(fullCommitMessage, lineEnd);
+            int lineStart = newline + 1;
+
+            if (!isFooterEntry(fullCommitMessage, lineStart, lineEnd)) {
+                break;
+            }
+
+            if (lines == maxLines) {
+                excessLineStart = lineStart;
+                break;
+            }
+
+            lines++;
+            firstEntryStart = lineStart;
+            lineEnd = newline > 0 && fullCommitMessage.charAt(newline - 1) == '\r' ? newline - 1 : newline;
+        }
+
+        this.excessLineStart = excessLineStart;
+
+        int separatorStart = firstEntryStart == NOT_FOUND
+            ? NOT_FOUND
+            : separatorStart(fullCommitMessage, firstEntryStart);
+
+        if (separatorStart == NOT_FOUND) {
+            this.start = fullCommitMessage.length();
+            this.firstEntryStart = end;
+        } else {
+            this.start = separatorStart;
+            this.firstEntryStart = firstEntryStart;
+        }
+    }
+
+    /**
+     * Start of the first footer line over the maximum number of lines. Lines are counted before checking
+     * the blank line separating the footer, so that scanning stops as soon as the maximum is reached.
+     *
+     * @return Offset of the line, {@code -1} if message does not end with too many footer lines
+     */
+    int excessLineStart() {
+        return excessLineStart;
+    }
+
+    /**
+     * Start of the footer, including the blank line separating it from the rest of the message.
+     *
+     * @return Offset of the footer in the message, message length if there is no footer
+     */
+    int start() {
+        return start;
+    }
+
+    /**
+     * Footer entries, in message order, with canonical keys and short values.
+     *
+     * @param text Message containing the footer
+     * @param entries Offsets of entries, as returned by {@link #entries()}
+     * @param from Index of the first entry offset in {@code entries}
+     * @return Footer entries
+     */
+    static ConventionalCommitFooter footer(CharSequence text, int[] entries, int from) {
+        if (entries.length == from) {
+            return ConventionalCommitFooter.EMPTY;
+        }
+
+        String[] keys = new String[(entries.length - from) / ENTRY_OFFSETS];
+        String[] values = new String[keys.length];
+
+        for (int index = from; index < entries.length; index += ENTRY_OFFSETS) {
+            int entry = (index - from) / ENTRY_OFFSETS;
+
+            keys[entry] = ConventionalCommitParser.CANONICAL_NAMES.canonical(
+                text,
+                entries[index],
+                entries[index + 1]
+            );
+            values[entry] = ConventionalCommitParser.CANONICAL_VALUES.canonical(
+                text,
+                entries[index + 2],
+                entries[index + 3]
+            );
+        }
+
+        return new ConventionalCommitFooter(keys, values);
+    }
+
+    /**
+     * Offsets of footer entries: key start, key end, value start and value end for each entry.
+     *
+     * @return Offsets of entries in the message, {@link #ENTRY_OFFSETS} values per entry
+     */
+    int[] entries() {
+        int[] entries = new int[ENTRY_OFFSETS * countLines(fullCommitMessage, firstEntryStart, end)];
+
+        int lineStart = firstEntryStart;
+
+        for (int index = 0; index < entries.length; index += ENTRY_OFFSETS) {
+            int lineEnd = lineEnd(fullCommitMessage, lineStart, end);
+            int valueStart = valueStart(fullCommitMessage, lineStart, lineEnd);
+
+            entries[index] = lineStart;
+            entries[index + 1] = valueStart - FOOTER_SEPARATOR.length();
+            entries[index + 2] = valueStart;
+            entries[index + 3] = lineEnd;
+
+            lineStart = lineEnd == end ? end : nextLineStart(fullCommitMessage, lineEnd);
+        }
+
+        return entries;
+    }
+
+    /**
+     * Footer contains an entry with the given key, looked up in a single backward scan
+     * without creating the scanner nor entries.
+     *
+     * @param text Full message
+     * @param key Key of the entry
+     * @param maxLines Maximum number of footer lines
+     * @return {@code true} if at least one entry has this key, {@code false} otherwise or if footer has
+     *         more lines than the maximum
+     */
+    static boolean containsKey(CharSequence text, String key, int maxLines) {
+        boolean found = false;
+        int firstEntryStart = NOT_FOUND;
+        int lineEnd = endOfFooter(text);
+        int lines = 0;
+
+        while (lineEnd >= 0) {
+            int newline = lastNewline(text, lineEnd);
+            int lineStart = newline + 1;
+            int valueStart = valueStart(text, lineStart, lineEnd);
+
+            if (!isFooterEntryValue(text, valueStart, lineEnd)) {
+                break;
+            }
+
+            if (lines++ == maxLines) {
+                return false;
+            }
+
+            int keyEnd = valueStart - FOOTER_SEPARATOR.length();
+
+            found |= keyEnd - lineStart == key.length() && startsWith(text, lineStart, keyEnd, key);
+            firstEntryStart = lineStart;
+            lineEnd = newline > 0 && text.charAt(newline - 1) == '\r' ? newline - 1 : newline;
+        }
+
+        return found && separatorStart(text, firstEntryStart) != NOT_FOUND;
+    }
+
+    private static int endOfFooter(CharSequence text) {
+        int length = text.length();
+
+        if (length >= 2 && text.charAt(length - 2) == '\r' && text.charAt(length - 1) == '\n') {
+            return length - 2;
+        }
+
+        if (length >= 1 && isLineTerminator(text.charAt(length - 1))) {
+            return length - 1;
+        }
+
+        return length;
+    }
+
+    private static int separatorStart(CharSequence text, int firstEntryStart) {
+        int index = firstEntryStart;
+
+        for (int newlines = 0; newlines < 2; newlines++) {
+            if (index == 0 || text.charAt(index - 1) != '\n') {
+                return NOT_FOUND;
+            }
+
+            index--;
+
+            if (index > 0 && text.charAt(index - 1) == '\r') {
+                index--;
+            }
+        }
+
+        return index;
+    }
+
+    private static int lastNewline(CharSequence text, int before) {
+        int index = before - 1;
+
+        while (index >= 0 && text.charAt(index) != '\n') {
+            index--;
+        }
+
+        return index;
+    }
+
+    private static boolean isFooterEntry(CharSequence text, int start, int end) {
+        return isFooterEntryValue(text, valueStart(text, start, end), end);
+    }
+
+    private static boolean isFooterEntryValue(CharSequence text, int valueStart, int end) {
+        if (valueStart == NOT_FOUND || valueStart >= end) {
+            return false;
+        }
+
+        for (int index = valueStart; index < end; index++) {
+            if (isLineTerminator(text.charAt(index))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int valueStart(CharSequence text, int start, int end) {
+        if (startsWith(text, start, end, BREAKING_CHANGE_KEY + FOOTER_SEPARATOR)) {
+            return start + BREAKING_CHANGE_KEY.length() + FOOTER_SEPARATOR.length();
+        }
+
+        int index = start;
+
+        while (index < end && text.charAt(index) != ' ' && text.charAt(index) != ':') {
+            index++;
+        }
+
+        if (index == start || !startsWith(text, index, end, FOOTER_SEPARATOR)) {
+            return NOT_FOUND;
+        }
+
+        return index + FOOTER_SEPARATOR.length();
+    }
+
+    private static boolean startsWith(CharSequence text, int start, int end, String prefix) {
+        if (end - start < prefix.length()) {
+            return false;
+        }
+
+        for (int index = 0; index < prefix.length(); index++) {
+            if (text.charAt(start + index) != prefix.charAt(index)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int countLines(CharSequence text, int start, int end) {
+        if (start == end) {
+            return 0;
+        }
+
+        int lines = 1;
+
+        for (int index = start; index < end; index++) {
+            if (text.charAt(index) == '\n') {
+                lines++;
+            }
+        }
+
+        return lines;
+    }
+
+    private static int lineEnd(CharSequence text, int lineStart, int end) {
+        int index = lineStart;
+
+        while (index < end && text.charAt(index) != '\n') {
+            index++;
+        }
+
+        if (index < end && index > lineStart && text.charAt(index - 1) == '\r') {
+            return index - 1;
+        }
+
+        return index;
+    }
+
+    private static int nextLineStart(CharSequence text, int lineEnd) {
+        return text.charAt(lineEnd) == '\r' ? lineEnd + 2 : lineEnd + 1;
+    }
+
+}
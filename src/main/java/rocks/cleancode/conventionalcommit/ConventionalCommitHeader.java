@@ -0,0 +1,135 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>Header of a conventional commit message, i.e. its first line.</p>
+ *
+ * Parsed with {@link ConventionalCommitParser#parseHeader(CharSequence)}, without reading the rest of the message.
+ *
+ * @since 1.3.0
+ */
+public final class ConventionalCommitHeader {
+
+    private final String type;
+
+    private final String scope;
+
+    private final boolean exclamation;
+
+    private final String description;
+
+    ConventionalCommitHeader(String type, String scope, boolean exclamation, String description) {
+        this.type = type;
+        this.scope = scope;
+        this.exclamation = exclamation;
+        this.description = description;
+    }
+
+    /**
+     * Message type.
+     *
+     * @return Message type
+     *
+     * @since 1.3.0
+     */
+    public String type() {
+        return type;
+    }
+
+    /**
+     * Message scope.
+     *
+     * @return {@link Optional} with message scope; empty if it does not exist
+     *
+     * @since 1.3.0
+     */
+    public Optional<String> scope() {
+        return Optional.ofNullable(scope);
+    }
+
+    /**
+     * Header with exclamation mark, i.e. a breaking change.
+     *
+     * @return {@code true} if exclamation mark exists in header, {@code false} otherwise
+     *
+     * @since 1.3.0
+     */
+    public boolean exclamation() {
+        return exclamation;
+    }
+
+    /**
+     * Message description.
+     *
+     * @return Message description
+     *
+     * @since 1.3.0
+     */
+    public String description() {
+        return description;
+    }
+
+    /**
+     * Compare with another header: headers are equal if they have the same type, scope, exclamation mark
+     * and description.
+     *
+     * @param other Object to compare with
+     * @return {@code true} if other object is an equal header, {@code false} otherwise
+     *
+     * @since 1.3.0
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof ConventionalCommitHeader)) {
+            return false;
+        }
+
+        ConventionalCommitHeader that = (ConventionalCommitHeader) other;
+
+        return type.equals(that.type)
+            && Objects.equals(scope, that.scope)
+            && exclamation == that.exclamation
+            && description.equals(that.description);
+    }
+
+    /**
+     * Hash code consistent with {@link #equals(Object)}.
+     *
+     * @return Hash code
+     *
+     * @since 1.3.0
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, scope, exclamation, description);
+    }
+
+    /**
+     * Header as written in a message.
+     *
+     * @return Header line
+     *
+     * @since 1.3.0
+     */
+    @Override
+    public String toString() {
+        StringBuilder header = new StringBuilder(type);
+
+        if (scope != null) {
+            header.append('(').append(scope).append(')');
+        }
+
+        if (exclamation) {
+            header.append('!');
+        }
+
+        return header.append(": ").append(description).toString();
+    }
+
+}
@@ -0,0 +1,217 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.util.List;
+
+class ConventionalCommitHeaderMatcher {
+
+    private static final int NOT_FOUND = -1;
+
+    private final ConventionalCommitTypeTrie types;
+
+    private final int maxTypeLength;
+
+    ConventionalCommitHeaderMatcher(List<String> types) {
+        this.types = new ConventionalCommitTypeTrie(types);
+        this.maxTypeLength = types.stream().mapToInt(String::length).max().orElse(0);
+    }
+
+    /**
+     * Find header at the beginning of the message.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @return Header of the message, {@code null} if message does not start with a valid header
+     */
+    ConventionalCommitMessage find(CharSequence fullCommitMessage) {
+        int typeLength = types.longestPrefix(fullCommitMessage, Integer.MAX_VALUE);
+        int firstLineEnd = typeLength == NOT_FOUND ? NOT_FOUND : lineEnd(fullCommitMessage, 0);
+
+        while (typeLength != NOT_FOUND) {
+            int lineEnd = typeLength <= firstLineEnd ? firstLineEnd : lineEnd(fullCommitMessage, typeLength);
+            ConventionalCommitMessage message = matchAfterType(fullCommitMessage, typeLength, lineEnd);
+
+            if (message != null) {
+                return message;
+            }
+
+            typeLength = typeLength == 0 ? NOT_FOUND : types.longestPrefix(fullCommitMessage, typeLength - 1);
+        }
+
+        return null;
+    }
+
+    /**
+     * Upper bound of the number of characters read by {@link #find(CharSequence)}: the rest of the first line
+     * is read once for each type which is a prefix of the message.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @param firstLineEnd End of the first line
+     * @param maxSteps Number of steps after which counting stops
+     * @return Number of steps, greater than {@code maxSteps} if counting stopped
+     */
+    long scanSteps(CharSequence fullCommitMessage, int firstLineEnd, long maxSteps) {
+        long steps = firstLineEnd;
+        int typeLength = types.longestPrefix(fullCommitMessage, Integer.MAX_VALUE);
+
+        while (typeLength != NOT_FOUND && steps <= maxSteps) {
+            steps += Math.max(firstLineEnd - typeLength, 0);
+            typeLength = typeLength == 0 ? NOT_FOUND : types.longestPrefix(fullCommitMessage, typeLength - 1);
+        }
+
+        return steps;
+    }
+
+    /**
+     * Maximum length of first lines which cannot exceed the given number of header scan steps, at most one
+     * candidate per type length reading at most the first line.
+     *
+     * @param maxSteps Maximum number of steps
+     * @return Length under which {@link #scanSteps(CharSequence, int, long)} does not exceed {@code maxSteps}
+     */
+    int maxBoundedLineLength(long maxSteps) {
+        return (int) Math.min(maxSteps / (maxTypeLength + 2), Integer.MAX_VALUE);
+    }
+
+    /**
+     * End of the first line, searched in the given number of characters.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @param limit Maximum number of characters to read
+     * @return Offset of the first line terminator, {@code limit} if there is none in the first {@code limit}
+     *         characters of a longer message
+     */
+    static int firstLineEnd(CharSequence fullCommitMessage, int limit) {
+        int end = Math.min(limit, fullCommitMessage.length());
+        int index = 0;
+
+        while (index < end && !isLineTerminator(fullCommitMessage.charAt(index))) {
+            index++;
+        }
+
+        return index;
+    }
+
+    /**
+     * Offset of the first character which does not follow header syntax, for a message without valid header.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @return Offset of the faulty character
+     */
+    int mismatchOffset(CharSequence fullCommitMessage) {
+        int position = types.longestPrefix(fullCommitMessage, Integer.MAX_VALUE);
+
+        if (position == NOT_FOUND) {
+            return 0;
+        }
+
+        int lineEnd = lineEnd(fullCommitMessage, position);
+
+        if (position < lineEnd && fullCommitMessage.charAt(position) == '(') {
+            int scopeEnd = lastIndexOf(fullCommitMessage, ')', position + 2, lineEnd);
+
+            if (scopeEnd == NOT_FOUND) {
+                return lineEnd;
+            }
+
+            position = scopeEnd + 1;
+        }
+
+        if (position < lineEnd && fullCommitMessage.charAt(position) == '!') {
+            position++;
+        }
+
+        if (position >= lineEnd || fullCommitMessage.charAt(position) != ':') {
+            return position;
+        }
+
+        if (position + 1 >= lineEnd || fullCommitMessage.charAt(position + 1) != ' ') {
+            return position + 1;
+        }
+
+        return position + 2;
+    }
+
+    private ConventionalCommitMessage matchAfterType(CharSequence text, int typeEnd, int lineEnd) {
+        if (typeEnd < lineEnd && text.charAt(typeEnd) == '(') {
+            return matchScope(text, typeEnd, lineEnd);
+        }
+
+        return matchDescription(text, typeEnd, NOT_FOUND, NOT_FOUND, typeEnd, lineEnd);
+    }
+
+    private ConventionalCommitMessage matchScope(CharSequence text, int typeEnd, int lineEnd) {
+        int scopeStart = typeEnd + 1;
+
+        // Scope is greedy: the right-most closing parenthesis followed by a valid description wins
+        for (int scopeEnd = lineEnd - 1; scopeEnd > scopeStart; scopeEnd--) {
+            if (text.charAt(scopeEnd) == ')') {
+                ConventionalCommitMessage message =
+                    matchDescription(text, typeEnd, scopeStart, scopeEnd, scopeEnd + 1, lineEnd);
+
+                if (message != null) {
+                    return message;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private ConventionalCommitMessage matchDescription(
+        CharSequence text,
+        int typeEnd,
+        int scopeStart,
+        int scopeEnd,
+        int position,
+        int lineEnd
+    ) {
+        boolean exclamation = position < lineEnd && text.charAt(position) == '!';
+        int separatorStart = exclamation ? position + 1 : position;
+        int descriptionStart = separatorStart + 2;
+
+        if (descriptionStart >= lineEnd
+            || text.charAt(separatorStart) != ':'
+            || text.charAt(separatorStart + 1) != ' ') {
+            return null;
+        }
+
+        return new ConventionalCommitMessage(
+            text,
+            types.type(text, typeEnd),
+            typeEnd,
+            scopeStart,
+            scopeEnd,
+            exclamation,
+            descriptionStart,
+            lineEnd
+        );
+    }
+
+    private int lastIndexOf(CharSequence text, char character, int from, int to) {
+        for (int index = to - 1; index >= from; index--) {
+            if (text.charAt(index) == character) {
+                return index;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    private int lineEnd(CharSequence text, int from) {
+        int index = from;
+
+        while (index < text.length() && !isLineTerminator(text.charAt(index))) {
+            index++;
+        }
+
+        return index;
+    }
+
+    static boolean isLineTerminator(char character) {
+        return character == '\n'
+            || character == '\r'
+            || character == '\u0085'
+            || character == '\u2028'
+            || character == '\u2029';
+    }
+
+}
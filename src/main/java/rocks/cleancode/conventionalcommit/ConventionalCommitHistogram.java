@@ -0,0 +1,125 @@
+package rocks.cleancode.conventionalcommit;
+
+import static java.lang.String.format;
+
+/**
+ * <p>Snapshot of a distribution of values, such as message lengths or parsing times.</p>
+ *
+ * Values are counted in power of two buckets: percentiles are upper bounds of the bucket
+ * containing the percentile, so they are at most twice the exact value. Count, sum and maximum are exact.
+ *
+ * @since 1.3.0
+ */
+public final class ConventionalCommitHistogram {
+
+    private final long[] bucketCounts;
+
+    private final long count;
+
+    private final long sum;
+
+    private final long max;
+
+    ConventionalCommitHistogram(long[] bucketCounts, long sum, long max) {
+        long total = 0;
+
+        for (long bucketCount : bucketCounts) {
+            total += bucketCount;
+        }
+
+        this.bucketCounts = bucketCounts;
+        this.count = total;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * Number of recorded values.
+     *
+     * @return Number of values
+     *
+     * @since 1.3.0
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Sum of recorded values.
+     *
+     * @return Sum of values
+     *
+     * @since 1.3.0
+     */
+    public long sum() {
+        return sum;
+    }
+
+    /**
+     * Greatest recorded value.
+     *
+     * @return Maximum value, {@code 0} if no value has been recorded
+     *
+     * @since 1.3.0
+     */
+    public long max() {
+        return max;
+    }
+
+    /**
+     * Mean of recorded values.
+     *
+     * @return Mean value, {@code 0} if no value has been recorded
+     *
+     * @since 1.3.0
+     */
+    public double mean() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * Upper bound of the given percentile.
+     *
+     * @param percentile Percentile, between {@code 0} and {@code 100}
+     * @return Value which at least the given percentage of recorded values do not exceed,
+     *         {@code 0} if no value has been recorded
+     * @throws IllegalArgumentException If percentile is not between {@code 0} and {@code 100}
+     *
+     * @since 1.3.0
+     */
+    public long percentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long cumulated = 0;
+
+        for (int bucket = 0; bucket < bucketCounts.length; bucket++) {
+            cumulated += bucketCounts[bucket];
+
+            if (cumulated >= rank && cumulated > 0) {
+                return Math.min(upperBound(bucket), max);
+            }
+        }
+
+        return 0;
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket == LogHistogram.BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return format(
+            "count=%d, mean=%.1f, p50=%d, p99=%d, max=%d",
+            count,
+            mean(),
+            percentile(50),
+            percentile(99),
+            max
+        );
+    }
+
+}
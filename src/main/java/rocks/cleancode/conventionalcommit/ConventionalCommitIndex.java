@@ -0,0 +1,500 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Columnar in-memory index of conventional commits, queried by type, scope, breaking change and footer key.</p>
+ *
+ * Commits are identified by their ordinal, i.e. their position in the order they have been added.
+ * Only the fields needed by queries are kept, without the commits themselves:
+ * <ul>
+ *     <li>type as an id in a dictionary of distinct types, in a column of ids and with a bit set per type,</li>
+ *     <li>scope as an id in a dictionary of distinct scopes, in a column of ids,</li>
+ *     <li>exclamation mark and breaking change as bit sets,</li>
+ *     <li>footer keys as posting lists, i.e. sorted ordinals of the commits having the key.</li>
+ * </ul>
+ * Queries intersect the bit sets of their criteria, restricted to the queried range of ordinals,
+ * then only check the scope of the remaining commits. Indexes are immutable and can be shared between threads.
+ *
+ * @since 1.3.0
+ */
+public final class ConventionalCommitIndex {
+
+    private static final int NO_SCOPE = -1;
+
+    private static final int NOT_FOUND = -2;
+
+    private static final int NO_CRITERION = Integer.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Builder of index, adding commits one at a time.
+     *
+     * @since 1.3.0
+     */
+    public static class Builder {
+
+        private final Map<String, Integer> typeIds = new HashMap<>();
+
+        private final List<BitSet> typeBits = new ArrayList<>();
+
+        private final Map<String, Integer> scopeIds = new HashMap<>();
+
+        private final Map<String, Postings> footerKeys = new HashMap<>();
+
+        private int[] types = new int[INITIAL_CAPACITY];
+
+        private int[] scopes = new int[INITIAL_CAPACITY];
+
+        private final BitSet exclamations = new BitSet();
+
+        private final BitSet breakingChanges = new BitSet();
+
+        private int size;
+
+        /**
+         * Add a commit to the index.
+         *
+         * @param commit Conventional commit
+         * @return Ordinal of the commit in the index
+         *
+         * @since 1.3.0
+         */
+        public int add(ConventionalCommit commit) {
+            if (size == scopes.length) {
+                types = Arrays.copyOf(types, size * 2);
+                scopes = Arrays.copyOf(scopes, size * 2);
+            }
+
+            types[size] = typeId(commit.type());
+            typeBits.get(types[size]).set(size);
+            scopes[size] = commit.scope().map(this::scopeId).orElse(NO_SCOPE);
+            exclamations.set(size, commit.exclamation());
+            breakingChanges.set(size, commit.breakingChange());
+
+            for (int entry = 0; entry < commit.footerEntries().size(); entry++) {
+                footerKeys.computeIfAbsent(commit.footerEntries().key(entry), key -> new Postings()).add(size);
+            }
+
+            return size++;
+        }
+
+        /**
+         * Add commits to the index, in iteration order.
+         *
+         * @param commits Conventional commits
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder addAll(Iterable<? extends ConventionalCommit> commits) {
+            commits.forEach(this::add);
+
+            return this;
+        }
+
+        /**
+         * Build the index of the added commits.
+         *
+         * @return Index
+         *
+         * @since 1.3.0
+         */
+        public ConventionalCommitIndex build() {
+            return new ConventionalCommitIndex(this);
+        }
+
+        private int typeId(String type) {
+            Integer id = typeIds.get(type);
+
+            if (id == null) {
+                id = typeIds.size();
+                typeIds.put(type, id);
+                typeBits.add(new BitSet());
+            }
+
+            return id;
+        }
+
+        private int scopeId(String scope) {
+            return scopeIds.computeIfAbsent(scope, key -> scopeIds.size());
+        }
+
+    }
+
+    /**
+     * Query of commits matching all given criteria.
+     *
+     * @since 1.3.0
+     */
+    public final class Query {
+
+        private int from;
+
+        private int to;
+
+        private int type = NO_CRITERION;
+
+        private int scope = NO_CRITERION;
+
+        private boolean exclamation;
+
+        private boolean breakingChange;
+
+        private final List<int[]> postings = new ArrayList<>(0);
+
+        private boolean empty;
+
+        private Query() {
+            this.to = size;
+        }
+
+        /**
+         * Only commits with the given type.
+         *
+         * @param type Message type
+         * @return Current query instance
+         *
+         * @since 1.3.0
+         */
+        public Query type(String type) {
+            this.type = find(typeIds, type);
+
+            return this;
+        }
+
+        /**
+         * Only commits with the given scope.
+         *
+         * @param scope Message scope, {@code null} for commits without scope
+         * @return Current query instance
+         *
+         * @since 1.3.0
+         */
+        public Query scope(String scope) {
+            this.scope = scope == null ? NO_SCOPE : find(scopeIds, scope);
+
+            return this;
+        }
+
+        /**
+         * Only commits with an exclamation mark.
+         *
+         * @return Current query instance
+         *
+         * @since 1.3.0
+         */
+        public Query exclamation() {
+            this.exclamation = true;
+
+            return this;
+        }
+
+        /**
+         * Only breaking changes, with an exclamation mark or a {@code BREAKING CHANGE} footer entry.
+         *
+         * @return Current query instance
+         *
+         * @since 1.3.0
+         */
+        public Query breakingChange() {
+            this.breakingChange = true;
+
+            return this;
+        }
+
+        /**
+         * Only commits with a footer entry with the given key.
+         *
+         * @param key Footer key
+         * @return Current query instance
+         *
+         * @since 1.3.0
+         */
+        public Query footerKey(String key) {
+            int[] keyPostings = footerKeys.get(key);
+
+            if (keyPostings == null) {
+                empty = true;
+            } else {
+                postings.add(keyPostings);
+            }
+
+            return this;
+        }
+
+        /**
+         * Only commits with an ordinal in the given range.
+         *
+         * @param from First ordinal, inclusive
+         * @param to Last ordinal, exclusive
+         * @return Current query instance
+         * @throws IndexOutOfBoundsException If the range is not in the index
+         *
+         * @since 1.3.0
+         */
+        public Query range(int from, int to) {
+            if (from < 0 || from > to || to > size) {
+                throw new IndexOutOfBoundsException(
+                    "Range [" + from + ", " + to + ") is out of bounds of size " + size
+                );
+            }
+
+            this.from = from;
+            this.to = to;
+
+            return this;
+        }
+
+        /**
+         * Only the last added commits.
+         *
+         * @param count Number of commits
+         * @return Current query instance
+         *
+         * @since 1.3.0
+         */
+        public Query last(int count) {
+            return range(Math.max(0, size - count), size);
+        }
+
+        /**
+         * Ordinals of matching commits.
+         *
+         * @return Ordinals, in ascending order
+         *
+         * @since 1.3.0
+         */
+        public int[] ordinals() {
+            BitSet matches = matches();
+            int[] ordinals = new int[matches.cardinality()];
+            int index = 0;
+
+            for (int bit = matches.nextSetBit(0); bit >= 0; bit = matches.nextSetBit(bit + 1)) {
+                ordinals[index++] = from + bit;
+            }
+
+            return ordinals;
+        }
+
+        /**
+         * Number of matching commits.
+         *
+         * @return Number of commits
+         *
+         * @since 1.3.0
+         */
+        public int count() {
+            return matches().cardinality();
+        }
+
+        /**
+         * Matching commits, as bits relative to {@link #from}.
+         */
+        private BitSet matches() {
+            if (empty || type == NOT_FOUND || scope == NOT_FOUND) {
+                return new BitSet();
+            }
+
+            BitSet matches = new BitSet(to - from);
+
+            matches.set(0, to - from);
+
+            if (exclamation) {
+                matches.and(exclamations.get(from, to));
+            }
+
+            if (breakingChange) {
+                matches.and(breakingChanges.get(from, to));
+            }
+
+            for (int[] keyPostings : postings) {
+                matches.and(bits(keyPostings));
+            }
+
+            if (type != NO_CRITERION) {
+                matches.and(typeBits[type].get(from, to));
+            }
+
+            if (scope != NO_CRITERION) {
+                for (int bit = matches.nextSetBit(0); bit >= 0; bit = matches.nextSetBit(bit + 1)) {
+                    if (scopes[from + bit] != scope) {
+                        matches.clear(bit);
+                    }
+                }
+            }
+
+            return matches;
+        }
+
+        private BitSet bits(int[] keyPostings) {
+            BitSet bits = new BitSet(to - from);
+            int start = Arrays.binarySearch(keyPostings, from);
+
+            for (int index = start < 0 ? -start - 1 : start; index < keyPostings.length; index++) {
+                if (keyPostings[index] >= to) {
+                    break;
+                }
+
+                bits.set(keyPostings[index] - from);
+            }
+
+            return bits;
+        }
+
+    }
+
+    private final String[] typeNames;
+
+    private final Map<String, Integer> typeIds;
+
+    private final String[] scopeNames;
+
+    private final Map<String, Integer> scopeIds;
+
+    private final BitSet[] typeBits;
+
+    private final int[] types;
+
+    private final int[] scopes;
+
+    private final BitSet exclamations;
+
+    private final BitSet breakingChanges;
+
+    private final Map<String, int[]> footerKeys;
+
+    private final int size;
+
+    private ConventionalCommitIndex(Builder builder) {
+        this.typeNames = names(builder.typeIds);
+        this.typeIds = new HashMap<>(builder.typeIds);
+        this.scopeNames = names(builder.scopeIds);
+        this.scopeIds = new HashMap<>(builder.scopeIds);
+        this.typeBits = builder.typeBits.stream()
+            .map(bits -> (BitSet) bits.clone())
+            .toArray(BitSet[]::new);
+        this.types = Arrays.copyOf(builder.types, builder.size);
+        this.scopes = Arrays.copyOf(builder.scopes, builder.size);
+        this.exclamations = (BitSet) builder.exclamations.clone();
+        this.breakingChanges = (BitSet) builder.breakingChanges.clone();
+        this.footerKeys = new HashMap<>();
+        this.size = builder.size;
+
+        builder.footerKeys.forEach((key, keyPostings) -> footerKeys.put(key, keyPostings.toArray()));
+    }
+
+    private static String[] names(Map<String, Integer> ids) {
+        String[] names = new String[ids.size()];
+
+        ids.forEach((name, id) -> names[id] = name);
+
+        return names;
+    }
+
+    private static int find(Map<String, Integer> ids, String name) {
+        return ids.getOrDefault(name, NOT_FOUND);
+    }
+
+    /**
+     * Number of indexed commits.
+     *
+     * @return Number of commits
+     *
+     * @since 1.3.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Type of an indexed commit.
+     *
+     * @param ordinal Ordinal of the commit
+     * @return Message type
+     * @throws IndexOutOfBoundsException If there is no commit with this ordinal
+     *
+     * @since 1.3.0
+     */
+    public String type(int ordinal) {
+        return typeNames[types[checkOrdinal(ordinal)]];
+    }
+
+    /**
+     * Scope of an indexed commit.
+     *
+     * @param ordinal Ordinal of the commit
+     * @return Message scope, {@code null} if it does not exist
+     * @throws IndexOutOfBoundsException If there is no commit with this ordinal
+     *
+     * @since 1.3.0
+     */
+    public String scope(int ordinal) {
+        int scope = scopes[checkOrdinal(ordinal)];
+
+        return scope == NO_SCOPE ? null : scopeNames[scope];
+    }
+
+    /**
+     * Breaking change indicator of an indexed commit.
+     *
+     * @param ordinal Ordinal of the commit
+     * @return {@code true} if the commit is a breaking change, {@code false} otherwise
+     * @throws IndexOutOfBoundsException If there is no commit with this ordinal
+     *
+     * @since 1.3.0
+     */
+    public boolean breakingChange(int ordinal) {
+        return breakingChanges.get(checkOrdinal(ordinal));
+    }
+
+    /**
+     * New query of all indexed commits, to be narrowed with criteria.
+     *
+     * @return Query
+     *
+     * @since 1.3.0
+     */
+    public Query query() {
+        return new Query();
+    }
+
+    private int checkOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= size) {
+            throw new IndexOutOfBoundsException("Ordinal " + ordinal + " is out of bounds of size " + size);
+        }
+
+        return ordinal;
+    }
+
+    private static final class Postings {
+
+        private int[] ordinals = new int[1];
+
+        private int size;
+
+        private void add(int ordinal) {
+            if (size > 0 && ordinals[size - 1] == ordinal) {
+                return;
+            }
+
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+
+            ordinals[size++] = ordinal;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(ordinals, size);
+        }
+
+    }
+
+}
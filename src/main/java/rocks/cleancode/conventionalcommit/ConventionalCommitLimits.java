@@ -0,0 +1,185 @@
+package rocks.cleancode.conventionalcommit;
+
+/**
+ * <p>Limits of the messages a parser accepts, to bound the time spent on untrusted input.</p>
+ *
+ * A message over a limit fails with a specific {@link ConventionalCommitParseError} as soon as the limit
+ * is reached, without scanning the rest of the message. Parsing time is linear in the length of the message
+ * except for header matching, which tries each type that is a prefix of the message: scan steps bound
+ * this part when types are prefixes of each other.
+ *
+ * @see ConventionalCommitParser#withLimits(ConventionalCommitLimits)
+ *
+ * @since 1.3.0
+ */
+public final class ConventionalCommitLimits {
+
+    /**
+     * No limit, the default of parsers.
+     *
+     * @since 1.3.0
+     */
+    public static final ConventionalCommitLimits UNLIMITED = new Builder().build();
+
+    /**
+     * Builder of limits.
+     *
+     * @since 1.3.0
+     */
+    public static class Builder {
+
+        private int maxMessageLength = Integer.MAX_VALUE;
+
+        private int maxHeaderLength = Integer.MAX_VALUE;
+
+        private int maxFooterLines = Integer.MAX_VALUE;
+
+        private long maxScanSteps = Long.MAX_VALUE;
+
+        /**
+         * Maximum length of messages.
+         *
+         * @param maxMessageLength Maximum number of characters, must be positive
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder maxMessageLength(int maxMessageLength) {
+            this.maxMessageLength = maxMessageLength;
+
+            return this;
+        }
+
+        /**
+         * Maximum length of the first line of messages, without line terminator.
+         *
+         * @param maxHeaderLength Maximum number of characters, must be positive
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder maxHeaderLength(int maxHeaderLength) {
+            this.maxHeaderLength = maxHeaderLength;
+
+            return this;
+        }
+
+        /**
+         * Maximum number of footer lines, counted backwards from the end of messages.
+         *
+         * @param maxFooterLines Maximum number of lines, must not be negative
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder maxFooterLines(int maxFooterLines) {
+            this.maxFooterLines = maxFooterLines;
+
+            return this;
+        }
+
+        /**
+         * Maximum number of characters read while matching the header: the rest of the first line
+         * counts once for each allowed type which is a prefix of the message.
+         *
+         * @param maxScanSteps Maximum number of steps, must be positive
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder maxScanSteps(long maxScanSteps) {
+            this.maxScanSteps = maxScanSteps;
+
+            return this;
+        }
+
+        /**
+         * Build limits with the given values.
+         *
+         * @return Limits
+         * @throws IllegalArgumentException If a limit is out of range
+         *
+         * @since 1.3.0
+         */
+        public ConventionalCommitLimits build() {
+            return new ConventionalCommitLimits(this);
+        }
+
+    }
+
+    private final int maxMessageLength;
+
+    private final int maxHeaderLength;
+
+    private final int maxFooterLines;
+
+    private final long maxScanSteps;
+
+    private ConventionalCommitLimits(Builder builder) {
+        if (builder.maxMessageLength <= 0) {
+            throw new IllegalArgumentException("Maximum message length must be positive");
+        }
+
+        if (builder.maxHeaderLength <= 0) {
+            throw new IllegalArgumentException("Maximum header length must be positive");
+        }
+
+        if (builder.maxFooterLines < 0) {
+            throw new IllegalArgumentException("Maximum number of footer lines must not be negative");
+        }
+
+        if (builder.maxScanSteps <= 0) {
+            throw new IllegalArgumentException("Maximum number of scan steps must be positive");
+        }
+
+        this.maxMessageLength = builder.maxMessageLength;
+        this.maxHeaderLength = builder.maxHeaderLength;
+        this.maxFooterLines = builder.maxFooterLines;
+        this.maxScanSteps = builder.maxScanSteps;
+    }
+
+    /**
+     * Maximum length of messages.
+     *
+     * @return Maximum number of characters, {@link Integer#MAX_VALUE} if not limited
+     *
+     * @since 1.3.0
+     */
+    public int maxMessageLength() {
+        return maxMessageLength;
+    }
+
+    /**
+     * Maximum length of the first line of messages.
+     *
+     * @return Maximum number of characters, {@link Integer#MAX_VALUE} if not limited
+     *
+     * @since 1.3.0
+     */
+    public int maxHeaderLength() {
+        return maxHeaderLength;
+    }
+
+    /**
+     * Maximum number of footer lines.
+     *
+     * @return Maximum number of lines, {@link Integer#MAX_VALUE} if not limited
+     *
+     * @since 1.3.0
+     */
+    public int maxFooterLines() {
+        return maxFooterLines;
+    }
+
+    /**
+     * Maximum number of characters read while matching the header.
+     *
+     * @return Maximum number of steps, {@link Long#MAX_VALUE} if not limited
+     *
+     * @since 1.3.0
+     */
+    public long maxScanSteps() {
+        return maxScanSteps;
+    }
+
+}
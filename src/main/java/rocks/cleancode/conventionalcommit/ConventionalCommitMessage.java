@@ -1,48 +1,61 @@
 package rocks.cleancode.conventionalcommit;
 
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import static java.lang.String.format;
-import static java.util.stream.Collectors.joining;
-
 class ConventionalCommitMessage {
 
-    private static final String SCOPE_REGEX = "(?:\\((.+)\\))";
+    private final CharSequence source;
 
-    private static final String EXCLAMATION_REGEX = "(!)";
+    private final String type;
 
-    private static final String DESCRIPTION_REGEX = "(.+)";
+    private final int typeEnd;
 
-    private final String raw;
+    private final int scopeStart;
 
-    private final String type;
-
-    private final String scope;
+    private final int scopeEnd;
 
     private final boolean exclamation;
 
-    private final String description;
+    private final int descriptionStart;
+
+    private final int end;
+
+    ConventionalCommitMessage(
+        CharSequence source,
+        String type,
+        int typeEnd,
+        int scopeStart,
+        int scopeEnd,
+        boolean exclamation,
+        int descriptionStart,
+        int end
+    ) {
+        this.source = source;
+        this.type = type;
+        this.typeEnd = typeEnd;
+        this.scopeStart = scopeStart;
+        this.scopeEnd = scopeEnd;
+        this.exclamation = exclamation;
+        this.descriptionStart = descriptionStart;
+        this.end = end;
+    }
 
-    ConventionalCommitMessage(List<String> types, String fullCommitMessage) {
-        Pattern pattern = Pattern.compile(regex(types));
+    public int end() {
+        return end;
+    }
 
-        Matcher matcher = pattern.matcher(fullCommitMessage);
+    int typeEnd() {
+        return typeEnd;
+    }
 
-        if (!matcher.find()) {
-            throw new IllegalArgumentException("Malformed conventional commit message");
-        }
+    int scopeStart() {
+        return scopeStart;
+    }
 
-        raw = matcher.group(1);
-        type = matcher.group(2);
-        scope = matcher.group(3);
-        exclamation = matcher.group(4) != null;
-        description = matcher.group(5);
+    int scopeEnd() {
+        return scopeEnd;
     }
 
-    public String raw() {
-        return raw;
+    int descriptionStart() {
+        return descriptionStart;
     }
 
     public String type() {
@@ -50,7 +63,11 @@ class ConventionalCommitMessage {
     }
 
     public String scope() {
-        return scope;
+        if (scopeStart < 0) {
+            return null;
+        }
+
+        return substring(scopeStart, scopeEnd);
     }
 
     public boolean exclamation() {
@@ -58,22 +75,11 @@ class ConventionalCommitMessage {
     }
 
     public String description() {
-        return description;
-    }
-
-    private String regex(List<String> types) {
-        return format(
-            "^(%s%s?%s?: %s)",
-            typesRegex(types),
-            SCOPE_REGEX,
-            EXCLAMATION_REGEX,
-            DESCRIPTION_REGEX
-        );
+        return substring(descriptionStart, end);
     }
 
-    private String typesRegex(List<String> types) {
-        return types.stream()
-            .collect(joining("|", "(", ")"));
+    private String substring(int start, int end) {
+        return source.subSequence(start, end).toString();
     }
 
 }
@@ -0,0 +1,65 @@
+package rocks.cleancode.conventionalcommit;
+
+/**
+ * <p>Listener of parser metrics.</p>
+ *
+ * Called by a parser created with {@link ConventionalCommitParser#withMetrics(ConventionalCommitMetrics)}
+ * once per parsed message, from the parsing thread: implementations must be thread-safe and fast.
+ * Times are only measured for a sample of messages, the others being reported with {@link #NOT_MEASURED} times.
+ * Parsers without metrics neither call a listener nor read the clock.
+ *
+ * @see ConventionalCommitMetricsRecorder
+ *
+ * @since 1.3.0
+ */
+public interface ConventionalCommitMetrics {
+
+    /**
+     * Time of a phase which has not been measured.
+     *
+     * @since 1.3.0
+     */
+    long NOT_MEASURED = -1;
+
+    /**
+     * Listener ignoring all metrics.
+     *
+     * @since 1.3.0
+     */
+    ConventionalCommitMetrics NO_OP = new ConventionalCommitMetrics() {
+
+        @Override
+        public void parsed(int length, long headerNanos, long footerNanos, long bodyNanos) {
+        }
+
+        @Override
+        public void failed(int length, ConventionalCommitParseError error, long headerNanos) {
+        }
+
+    };
+
+    /**
+     * Message has been parsed.
+     *
+     * @param length Length of the message, in characters
+     * @param headerNanos Time spent matching and checking the header, in nanoseconds, or {@link #NOT_MEASURED}
+     * @param footerNanos Time spent finding the footer entries, in nanoseconds, or {@link #NOT_MEASURED}
+     * @param bodyNanos Time spent extracting body and footer entries and building the commit, in nanoseconds,
+     *                  or {@link #NOT_MEASURED}
+     *
+     * @since 1.3.0
+     */
+    void parsed(int length, long headerNanos, long footerNanos, long bodyNanos);
+
+    /**
+     * Message could not be parsed.
+     *
+     * @param length Length of the message, in characters
+     * @param error Reason of the failure
+     * @param headerNanos Time spent matching and checking the header, in nanoseconds, or {@link #NOT_MEASURED}
+     *
+     * @since 1.3.0
+     */
+    void failed(int length, ConventionalCommitParseError error, long headerNanos);
+
+}
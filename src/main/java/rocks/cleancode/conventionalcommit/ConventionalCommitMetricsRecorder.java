@@ -0,0 +1,268 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>Metrics listener counting parsed messages and failures, with distributions of lengths and times.</p>
+ *
+ * Counters are cumulated since the creation of the recorder, and can be read at any time while parsers
+ * record metrics. Each thread records in its own counters, without locks nor atomic read-modify-write
+ * operations, so the recorder can be left on under load; reading metrics sums the counters of all threads.
+ * Counters of ended threads are added to shared counters and dropped, so memory and reading time depend
+ * on the number of live threads, not on the number of threads which ever recorded metrics.
+ * Times which have not been measured, see {@link ConventionalCommitParser#withMetrics(ConventionalCommitMetrics, int)},
+ * are not recorded.
+ *
+ * <pre>{@code
+ * ConventionalCommitMetricsRecorder metrics = new ConventionalCommitMetricsRecorder();
+ * ConventionalCommitParser parser = new ConventionalCommitParser().withMetrics(metrics);
+ * }</pre>
+ *
+ * @since 1.3.0
+ */
+public final class ConventionalCommitMetricsRecorder implements ConventionalCommitMetrics {
+
+    private static final int PARSE_COUNT = 0;
+
+    private static final int FAILURE_COUNTS = PARSE_COUNT + 1;
+
+    private static final int LENGTHS = FAILURE_COUNTS + ConventionalCommitParseError.values().length;
+
+    private static final int HEADER_NANOS = LENGTHS + LogHistogram.SIZE;
+
+    private static final int FOOTER_NANOS = HEADER_NANOS + LogHistogram.SIZE;
+
+    private static final int BODY_NANOS = FOOTER_NANOS + LogHistogram.SIZE;
+
+    private static final int SIZE = BODY_NANOS + LogHistogram.SIZE;
+
+    private static final int[] HISTOGRAMS = { LENGTHS, HEADER_NANOS, FOOTER_NANOS, BODY_NANOS };
+
+    /**
+     * Counters of a thread, with the thread itself weakly referenced so that it can be collected.
+     */
+    private static final class ThreadCounters {
+
+        private final WeakReference<Thread> owner = new WeakReference<>(Thread.currentThread());
+
+        private final AtomicLongArray counters = new AtomicLongArray(SIZE);
+
+        private boolean hasEnded() {
+            Thread thread = owner.get();
+
+            return thread == null || !thread.isAlive();
+        }
+
+    }
+
+    /**
+     * Counters of live threads which recorded metrics, also the lock of all reads.
+     */
+    private final List<ThreadCounters> threadCounters = new ArrayList<>();
+
+    /**
+     * Counters of ended threads, written with the lock held.
+     */
+    private final AtomicLongArray endedCounters = new AtomicLongArray(SIZE);
+
+    /**
+     * Number of thread counters after which ended threads are looked for when a thread starts recording.
+     */
+    private int pruneThreshold = 1;
+
+    private final ThreadLocal<AtomicLongArray> counters = ThreadLocal.withInitial(() -> {
+        ThreadCounters created = new ThreadCounters();
+
+        synchronized (threadCounters) {
+            threadCounters.add(created);
+
+            // Pruned when counters have doubled since last time, so that starting threads prune in amortized
+            // constant time
+            if (threadCounters.size() > pruneThreshold) {
+                pruneEndedThreads();
+                pruneThreshold = 2 * threadCounters.size();
+            }
+        }
+
+        return created.counters;
+    });
+
+    /**
+     * Default constructor.
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitMetricsRecorder() {
+    }
+
+    @Override
+    public void parsed(int length, long headerNanos, long footerNanos, long bodyNanos) {
+        AtomicLongArray threadCounters = counters.get();
+
+        LogHistogram.increment(threadCounters, PARSE_COUNT, 1);
+        LogHistogram.record(threadCounters, LENGTHS, length);
+
+        if (headerNanos != NOT_MEASURED) {
+            LogHistogram.record(threadCounters, HEADER_NANOS, headerNanos);
+            LogHistogram.record(threadCounters, FOOTER_NANOS, footerNanos);
+            LogHistogram.record(threadCounters, BODY_NANOS, bodyNanos);
+        }
+    }
+
+    @Override
+    public void failed(int length, ConventionalCommitParseError error, long headerNanos) {
+        AtomicLongArray threadCounters = counters.get();
+
+        LogHistogram.increment(threadCounters, PARSE_COUNT, 1);
+        LogHistogram.increment(threadCounters, FAILURE_COUNTS + error.ordinal(), 1);
+        LogHistogram.record(threadCounters, LENGTHS, length);
+
+        if (headerNanos != NOT_MEASURED) {
+            LogHistogram.record(threadCounters, HEADER_NANOS, headerNanos);
+        }
+    }
+
+    /**
+     * Number of messages given to parsers, parsed or not.
+     *
+     * @return Number of messages
+     *
+     * @since 1.3.0
+     */
+    public long parseCount() {
+        return sum(PARSE_COUNT);
+    }
+
+    /**
+     * Number of messages which could not be parsed for the given reason.
+     *
+     * @param error Reason of failure
+     * @return Number of failures
+     *
+     * @since 1.3.0
+     */
+    public long failureCount(ConventionalCommitParseError error) {
+        return sum(FAILURE_COUNTS + error.ordinal());
+    }
+
+    /**
+     * Number of messages which could not be parsed, whatever the reason.
+     *
+     * @return Number of failures
+     *
+     * @since 1.3.0
+     */
+    public long failureCount() {
+        long failureCount = 0;
+
+        for (ConventionalCommitParseError error : ConventionalCommitParseError.values()) {
+            failureCount += failureCount(error);
+        }
+
+        return failureCount;
+    }
+
+    /**
+     * Distribution of the lengths of messages, parsed or not, in characters.
+     *
+     * @return Snapshot of the distribution
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitHistogram lengths() {
+        return snapshot(LENGTHS);
+    }
+
+    /**
+     * Distribution of the times spent matching and checking headers, failures included, in nanoseconds.
+     *
+     * @return Snapshot of the distribution of measured times
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitHistogram headerNanos() {
+        return snapshot(HEADER_NANOS);
+    }
+
+    /**
+     * Distribution of the times spent finding footer entries of parsed messages, in nanoseconds.
+     *
+     * @return Snapshot of the distribution of measured times
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitHistogram footerNanos() {
+        return snapshot(FOOTER_NANOS);
+    }
+
+    /**
+     * Distribution of the times spent extracting bodies and footer entries of parsed messages
+     * and building their commits, in nanoseconds.
+     *
+     * @return Snapshot of the distribution of measured times
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitHistogram bodyNanos() {
+        return snapshot(BODY_NANOS);
+    }
+
+    private long sum(int index) {
+        synchronized (threadCounters) {
+            pruneEndedThreads();
+
+            long sum = endedCounters.get(index);
+
+            for (ThreadCounters thread : threadCounters) {
+                sum += thread.counters.get(index);
+            }
+
+            return sum;
+        }
+    }
+
+    private ConventionalCommitHistogram snapshot(int offset) {
+        synchronized (threadCounters) {
+            pruneEndedThreads();
+
+            List<AtomicLongArray> counterArrays = new ArrayList<>(threadCounters.size() + 1);
+
+            counterArrays.add(endedCounters);
+
+            for (ThreadCounters thread : threadCounters) {
+                counterArrays.add(thread.counters);
+            }
+
+            return LogHistogram.snapshot(counterArrays, offset);
+        }
+    }
+
+    /**
+     * Add counters of ended threads to {@link #endedCounters} and drop them, with the lock held.
+     * An ended thread does not record anymore, and its last records are visible once it is seen ended.
+     */
+    private void pruneEndedThreads() {
+        Iterator<ThreadCounters> iterator = threadCounters.iterator();
+
+        while (iterator.hasNext()) {
+            ThreadCounters thread = iterator.next();
+
+            if (thread.hasEnded()) {
+                for (int index = 0; index < LENGTHS; index++) {
+                    LogHistogram.increment(endedCounters, index, thread.counters.get(index));
+                }
+
+                for (int offset : HISTOGRAMS) {
+                    LogHistogram.merge(endedCounters, thread.counters, offset);
+                }
+
+                iterator.remove();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+package rocks.cleancode.conventionalcommit;
+
+/**
+ * Reason why a conventional commit message could not be parsed.
+ *
+ * @since 1.3.0
+ */
+public enum ConventionalCommitParseError {
+
+    /**
+     * Header does not match {@code type(scope)!: description} with an allowed type.
+     *
+     * @since 1.3.0
+     */
+    MALFORMED_HEADER("Malformed conventional commit message"),
+
+    /**
+     * Type is empty or only made of whitespaces.
+     *
+     * @since 1.3.0
+     */
+    MISSING_TYPE("Type is missing or empty"),
+
+    /**
+     * Description is only made of whitespaces.
+     *
+     * @since 1.3.0
+     */
+    MISSING_DESCRIPTION("Description is missing or empty"),
+
+    /**
+     * Message is longer than {@link ConventionalCommitLimits#maxMessageLength()}.
+     *
+     * @since 1.3.0
+     */
+    MESSAGE_TOO_LONG("Message is too long"),
+
+    /**
+     * First line is longer than {@link ConventionalCommitLimits#maxHeaderLength()}.
+     *
+     * @since 1.3.0
+     */
+    HEADER_TOO_LONG("Header is too long"),
+
+    /**
+     * Message ends with more footer lines than {@link ConventionalCommitLimits#maxFooterLines()}.
+     *
+     * @since 1.3.0
+     */
+    TOO_MANY_FOOTER_LINES("Footer has too many lines"),
+
+    /**
+     * Matching the header would take more steps than {@link ConventionalCommitLimits#maxScanSteps()}.
+     *
+     * @since 1.3.0
+     */
+    SCAN_STEPS_EXCEEDED("Header needs too many scan steps");
+
+    private final String message;
+
+    ConventionalCommitParseError(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Human readable description of the error.
+     *
+     * @return Error description
+     *
+     * @since 1.3.0
+     */
+    public String message() {
+        return message;
+    }
+
+}
@@ -0,0 +1,102 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.util.Optional;
+
+/**
+ * <p>Result of parsing one conventional commit message.</p>
+ *
+ * Either holds the parsed conventional commit, or the reason why the message could not be parsed
+ * with the offset of the faulty character in the message. No exception is created unless
+ * {@link #orElseThrow()} is called on a failed result.
+ *
+ * @since 1.3.0
+ */
+public final class ConventionalCommitParseResult {
+
+    private static final int NO_OFFSET = -1;
+
+    private final ConventionalCommit commit;
+
+    private final ConventionalCommitParseError error;
+
+    private final int errorOffset;
+
+    private ConventionalCommitParseResult(ConventionalCommit commit, ConventionalCommitParseError error, int errorOffset) {
+        this.commit = commit;
+        this.error = error;
+        this.errorOffset = errorOffset;
+    }
+
+    static ConventionalCommitParseResult success(ConventionalCommit commit) {
+        return new ConventionalCommitParseResult(commit, null, NO_OFFSET);
+    }
+
+    static ConventionalCommitParseResult failure(ConventionalCommitParseError error, int errorOffset) {
+        return new ConventionalCommitParseResult(null, error, errorOffset);
+    }
+
+    /**
+     * Indicator of successful parsing.
+     *
+     * @return {@code true} if message has been parsed, {@code false} otherwise
+     *
+     * @since 1.3.0
+     */
+    public boolean isSuccess() {
+        return commit != null;
+    }
+
+    /**
+     * Parsed conventional commit.
+     *
+     * @return {@link Optional} with parsed conventional commit; empty if parsing failed
+     *
+     * @since 1.3.0
+     */
+    public Optional<ConventionalCommit> commit() {
+        return Optional.ofNullable(commit);
+    }
+
+    /**
+     * Reason why parsing failed.
+     *
+     * @return {@link Optional} with parsing error; empty if parsing succeeded
+     *
+     * @since 1.3.0
+     */
+    public Optional<ConventionalCommitParseError> error() {
+        return Optional.ofNullable(error);
+    }
+
+    ConventionalCommitParseError nullableError() {
+        return error;
+    }
+
+    /**
+     * Offset of the character where parsing failed.
+     *
+     * @return Offset in the message, {@code -1} if parsing succeeded
+     *
+     * @since 1.3.0
+     */
+    public int errorOffset() {
+        return errorOffset;
+    }
+
+    /**
+     * Parsed conventional commit, or exception thrown if parsing failed.
+     *
+     * @return Parsed conventional commit
+     * @throws IllegalArgumentException If message has not conventional commit format
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommit orElseThrow() {
+        if (error != null) {
+            throw new IllegalArgumentException(error.message());
+        }
+
+        return commit;
+    }
+
+}
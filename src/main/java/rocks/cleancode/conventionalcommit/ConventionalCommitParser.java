@@ -1,15 +1,30 @@
 package rocks.cleancode.conventionalcommit;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.stream.Collectors.toList;
 
 /**
  * <p>Conventional commit message parser.</p>
  *
- * Based on specification <a href="https://www.conventionalcommits.org/en/v1.0.0/">Conventional Commits v1.0.0</a>.
+ * <p>Based on specification <a href="https://www.conventionalcommits.org/en/v1.0.0/">Conventional Commits v1.0.0</a>.</p>
+ *
+ * Header matcher is built once per parser instance, so instances are immutable
+ * and can be shared between threads.
  *
  * @since 1.0.0
  */
@@ -35,7 +50,65 @@ public class ConventionalCommitParser {
         "test"
     ));
 
-    private final List<String> types;
+    /**
+     * Default average number of messages per measured message, see {@link #withMetrics(ConventionalCommitMetrics)}.
+     *
+     * @since 1.3.0
+     */
+    public static final int DEFAULT_TIMING_INTERVAL = 16;
+
+    private static final int BATCH_SIZE = 1024;
+
+    private static final String BREAKING_CHANGE_KEY = "BREAKING CHANGE";
+
+    private static final int COPIED_RESULT = 0;
+
+    private static final int LAZY_BODY_RESULT = 1;
+
+    private static final int VIEW_RESULT = 2;
+
+    /**
+     * Canonical footer keys and scopes, shared by all parsers so that parsed commits do not each
+     * keep their own copy of frequent strings.
+     */
+    static final CanonicalStrings CANONICAL_NAMES = new CanonicalStrings(1024, 32);
+
+    /**
+     * Canonical short footer values (reviewers, authors...), in a distinct table so that
+     * unique values do not evict keys and scopes.
+     */
+    static final CanonicalStrings CANONICAL_VALUES = new CanonicalStrings(1024, 32);
+
+    private static final ConventionalCommitHeaderMatcher RECOMMENDED_TYPES_MATCHER =
+        new ConventionalCommitHeaderMatcher(RECOMMENDED_TYPES);
+
+    private static final int PARSER_CACHE_SIZE = 512;
+
+    private static final LruCache<Collection<String>, ConventionalCommitParser> PARSERS =
+        new LruCache<>(PARSER_CACHE_SIZE);
+
+    private final ConventionalCommitHeaderMatcher headerMatcher;
+
+    private final boolean lazyBody;
+
+    /**
+     * Metrics listener, {@code null} if metrics are disabled.
+     */
+    private final ConventionalCommitMetrics metrics;
+
+    private final int timingInterval;
+
+    /**
+     * Timer of parsings which are not timed, only counted if there are metrics.
+     */
+    private final PhaseTimer countingTimer;
+
+    private final ConventionalCommitLimits limits;
+
+    /**
+     * Length up to which messages are under the limits, without reading them.
+     */
+    private final int uncheckedLength;
 
     /**
      * Default constructor with types defined with {@link #RECOMMENDED_TYPES}.
@@ -43,22 +116,178 @@ public class ConventionalCommitParser {
      * @since 1.0.0
      */
     public ConventionalCommitParser() {
-        this(RECOMMENDED_TYPES);
+        this(RECOMMENDED_TYPES_MATCHER);
     }
 
     /**
-     * Constructor with allowed types.
+     * <p>Constructor with allowed types.</p>
+     *
+     * Types are looked up in a prefix tree, in a time which does not depend on the number of types.
+     * When several types start a message, e.g. {@code feat} and {@code feat-ui}, the longest one followed
+     * by a valid header is used.
      *
      * @param types List of allowed types
      *
      * @since 1.2.0
      */
     public ConventionalCommitParser(String... types) {
-        this.types = unmodifiableList(asList(types));
+        this(new ConventionalCommitHeaderMatcher(unmodifiableList(asList(types))));
     }
 
-    private ConventionalCommitParser(List<String> types) {
-        this.types = types;
+    private ConventionalCommitParser(ConventionalCommitHeaderMatcher headerMatcher) {
+        this(headerMatcher, false, null, DEFAULT_TIMING_INTERVAL, ConventionalCommitLimits.UNLIMITED);
+    }
+
+    private ConventionalCommitParser(
+        ConventionalCommitHeaderMatcher headerMatcher,
+        boolean lazyBody,
+        ConventionalCommitMetrics metrics,
+        int timingInterval,
+        ConventionalCommitLimits limits
+    ) {
+        this.headerMatcher = headerMatcher;
+        this.lazyBody = lazyBody;
+        this.metrics = metrics;
+        this.timingInterval = timingInterval;
+        this.countingTimer = metrics == null ? PhaseTimer.NONE : new PhaseTimer(metrics, false);
+        this.limits = limits;
+        this.uncheckedLength = Math.min(
+            Math.min(limits.maxMessageLength(), limits.maxHeaderLength()),
+            headerMatcher.maxBoundedLineLength(limits.maxScanSteps())
+        );
+    }
+
+    /**
+     * <p>Parser with the same types, extracting bodies lazily.</p>
+     *
+     * Conventional commits returned by this parser keep the body as offsets in the message: it is only
+     * trimmed and copied when {@link ConventionalCommit#body()} is first called. Workloads reading only
+     * headers or footers do not pay for bodies, but each commit keeps a reference to its full message.
+     *
+     * @return Parser extracting bodies lazily
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitParser withLazyBody() {
+        return lazyBody ? this : new ConventionalCommitParser(headerMatcher, true, metrics, timingInterval, limits);
+    }
+
+    /**
+     * <p>Parser with the same types, reporting metrics of each parsed message to the given listener.</p>
+     *
+     * Times are measured for one message out of {@link #DEFAULT_TIMING_INTERVAL} on average.
+     *
+     * @param metrics Metrics listener, {@link ConventionalCommitMetrics#NO_OP} to disable metrics
+     * @return Parser reporting metrics
+     * @see #withMetrics(ConventionalCommitMetrics, int)
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitParser withMetrics(ConventionalCommitMetrics metrics) {
+        return withMetrics(metrics, DEFAULT_TIMING_INTERVAL);
+    }
+
+    /**
+     * <p>Parser with the same types, reporting metrics of each parsed message to the given listener.</p>
+     *
+     * Metrics are reported by {@link #parse(String)}, {@link #tryParse(String)}, {@link #parseView(CharSequence)}
+     * and {@code parseAll}: message length, failure reason and times of the header, footer and body phases.
+     * Header-only methods are not measured. Reading the clock costs about as much as parsing a short header,
+     * so times are only measured for randomly chosen messages, one out of the given interval on average;
+     * the other messages are reported with {@link ConventionalCommitMetrics#NOT_MEASURED} times.
+     *
+     * @param metrics Metrics listener, {@link ConventionalCommitMetrics#NO_OP} to disable metrics
+     * @param timingInterval Average number of messages per measured message, {@code 1} to measure all messages
+     * @return Parser reporting metrics
+     * @throws IllegalArgumentException If timing interval is not positive
+     * @see ConventionalCommitMetricsRecorder
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitParser withMetrics(ConventionalCommitMetrics metrics, int timingInterval) {
+        if (timingInterval <= 0) {
+            throw new IllegalArgumentException("Timing interval must be positive");
+        }
+
+        return new ConventionalCommitParser(
+            headerMatcher,
+            lazyBody,
+            metrics == ConventionalCommitMetrics.NO_OP ? null : metrics,
+            timingInterval,
+            limits
+        );
+    }
+
+    /**
+     * <p>Parser with the same types, rejecting messages over the given limits.</p>
+     *
+     * Limits apply to all methods of the parser: messages over a limit are reported with the error
+     * of the limit by {@link #tryParse(String)}, throw an exception with {@link #parse(String)}
+     * and have no breaking change.
+     *
+     * @param limits Limits of messages, {@link ConventionalCommitLimits#UNLIMITED} for no limit
+     * @return Parser with limits
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitParser withLimits(ConventionalCommitLimits limits) {
+        return new ConventionalCommitParser(headerMatcher, lazyBody, metrics, timingInterval, limits);
+    }
+
+    ConventionalCommitLimits limits() {
+        return limits;
+    }
+
+    int uncheckedLength() {
+        return uncheckedLength;
+    }
+
+    /**
+     * <p>Shared parser for the given types.</p>
+     *
+     * Parsers are kept in a cache of the 512 most recently used type collections, shared by all threads.
+     * Order and repetitions of types do not matter: the same instance is returned for the same set of types,
+     * unless it has been evicted in the meantime. Lists and sets equal to a collection already given are found
+     * without copying them; other collections are copied and sorted on each call.
+     *
+     * @param types Allowed types
+     * @return Parser for the given types
+     * @see #parserCacheStatistics()
+     *
+     * @since 1.3.0
+     */
+    public static ConventionalCommitParser forTypes(Collection<String> types) {
+        boolean comparable = types instanceof List || types instanceof Set;
+        ConventionalCommitParser parser = comparable ? PARSERS.getIfPresent(types) : null;
+
+        if (parser != null) {
+            return parser;
+        }
+
+        // Parser of the distinct types, remembered for collections equal to the given one
+        List<String> distinctTypes = unmodifiableList(new ArrayList<>(new TreeSet<>(types)));
+        ConventionalCommitParser shared = PARSERS.get(distinctTypes, key -> new ConventionalCommitParser(
+            new ConventionalCommitHeaderMatcher(distinctTypes)
+        ));
+
+        if (types instanceof Set) {
+            PARSERS.put(unmodifiableSet(new HashSet<>(types)), shared);
+        } else if (types instanceof List && !types.equals(distinctTypes)) {
+            PARSERS.put(unmodifiableList(new ArrayList<>(types)), shared);
+        }
+
+        return shared;
+    }
+
+    /**
+     * Statistics of the cache used by {@link #forTypes(Collection)}.
+     *
+     * @return Snapshot of the statistics
+     *
+     * @since 1.3.0
+     */
+    public static ConventionalCommitCacheStatistics parserCacheStatistics() {
+        return PARSERS.statistics();
     }
 
     /**
@@ -66,41 +295,438 @@ public class ConventionalCommitParser {
      *
      * @param fullCommitMessage Raw conventional commit message
      * @return Parsed conventional commit message
+     * @throws IllegalArgumentException If message has not conventional commit format
      *
      * @since 1.0.0
      */
     public ConventionalCommit parse(String fullCommitMessage) {
-        ConventionalCommitMessage message = new ConventionalCommitMessage(types, fullCommitMessage);
+        return tryParse(fullCommitMessage).orElseThrow();
+    }
 
-        ConventionalCommitFooter footer = new ConventionalCommitFooter(fullCommitMessage);
+    /**
+     * <p>Parse raw conventional commit message without throwing exception.</p>
+     *
+     * Messages which are not conventional commits (merge commits, reverts...) are reported
+     * with an error code and the offset of the faulty character, no exception being created.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @return Parsed conventional commit message, or parsing error
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitParseResult tryParse(String fullCommitMessage) {
+        return tryParse(fullCommitMessage, lazyBody ? LAZY_BODY_RESULT : COPIED_RESULT);
+    }
 
-        String body = body(fullCommitMessage, message, footer);
+    /**
+     * <p>Parse the header of a raw conventional commit message.</p>
+     *
+     * Only the first line of the message is read: neither the body nor the footer are parsed.
+     *
+     * @param fullCommitMessage Raw conventional commit message, or only its first line
+     * @return Parsed header
+     * @throws IllegalArgumentException If message has not conventional commit format
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitHeader parseHeader(CharSequence fullCommitMessage) {
+        ConventionalCommitMessage message = header(fullCommitMessage);
+        ConventionalCommitParseResult headerFailure = headerFailure(fullCommitMessage, message);
 
-        return conventionalCommit(message, body, footer);
+        if (headerFailure != null) {
+            headerFailure.orElseThrow();
+        }
+
+        return new ConventionalCommitHeader(
+            message.type(),
+            scope(fullCommitMessage, message),
+            message.exclamation(),
+            message.description()
+        );
     }
 
-    private String body(String fullCommitMessage, ConventionalCommitMessage message, ConventionalCommitFooter footer) {
-        String rawMessage = Optional.ofNullable(message.raw()).orElse("");
-        String rawFooter = Optional.ofNullable(footer.raw()).orElse("");
+    /**
+     * <p>Indicator of breaking change, without parsing the whole message.</p>
+     *
+     * Only the header and the footer are read, the footer being searched backwards from the end
+     * of the message. Same as {@link ConventionalCommit#breakingChange()} of the parsed message.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @return {@code true} if the header has an exclamation mark or the footer a {@code BREAKING CHANGE} entry,
+     *         {@code false} otherwise or if message has not conventional commit format
+     *
+     * @since 1.3.0
+     */
+    public boolean hasBreakingChange(CharSequence fullCommitMessage) {
+        ConventionalCommitMessage message = header(fullCommitMessage);
 
-        return fullCommitMessage
-                .substring(rawMessage.length(), fullCommitMessage.length() - rawFooter.length())
-                .trim();
+        if (!isValidHeader(fullCommitMessage, message)) {
+            return false;
+        }
+
+        return message.exclamation() || hasBreakingChangeFooter(fullCommitMessage);
     }
 
-    private ConventionalCommit conventionalCommit(
-        ConventionalCommitMessage message,
-        String body,
-        ConventionalCommitFooter footer
+    boolean hasBreakingChangeFooter(CharSequence fullCommitMessage) {
+        return ConventionalCommitFooterScanner.containsKey(
+            fullCommitMessage,
+            BREAKING_CHANGE_KEY,
+            limits.maxFooterLines()
+        );
+    }
+
+    /**
+     * <p>Parse raw conventional commit message without copying its parts.</p>
+     *
+     * The returned view keeps a reference to the given message, which must not be modified afterwards.
+     * Strings are only created when the corresponding accessor is called.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @return Parsed conventional commit message, backed by the given message
+     * @throws IllegalArgumentException If message has not conventional commit format
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitView parseView(CharSequence fullCommitMessage) {
+        return (ConventionalCommitView) tryParseView(fullCommitMessage).orElseThrow();
+    }
+
+    /**
+     * <p>Open a message to parse it incrementally while it is edited.</p>
+     *
+     * Each edit of the returned document only scans again the header or the footer
+     * when the edit touches them.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @return Document parsed with this parser
+     * @see ConventionalCommitDocument#edit(int, int, String)
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitDocument open(String fullCommitMessage) {
+        return new ConventionalCommitDocument(this, fullCommitMessage);
+    }
+
+    ConventionalCommitParseResult tryParseView(CharSequence fullCommitMessage) {
+        return tryParse(fullCommitMessage, VIEW_RESULT);
+    }
+
+    private ConventionalCommitParseResult tryParse(CharSequence fullCommitMessage, int resultKind) {
+        PhaseTimer timer = timer();
+
+        return timer.report(fullCommitMessage.length(), result(scan(fullCommitMessage, timer), resultKind));
+    }
+
+    /**
+     * Timer of a parsing, reporting to the metrics of this parser.
+     *
+     * @return Timer timing one parsing out of {@link #timingInterval}, {@link PhaseTimer#NONE} without metrics
+     */
+    PhaseTimer timer() {
+        if (metrics == null || timingInterval > 1 && ThreadLocalRandom.current().nextInt(timingInterval) != 0) {
+            return countingTimer;
+        }
+
+        return new PhaseTimer(metrics, true);
+    }
+
+    /**
+     * Result of a scan, with bodies copied or extracted lazily as configured.
+     *
+     * @param scan Scan of a message given as a string
+     * @return Parsing result
+     */
+    ConventionalCommitParseResult result(ConventionalCommitScan scan) {
+        return result(scan, lazyBody ? LAZY_BODY_RESULT : COPIED_RESULT);
+    }
+
+    private static ConventionalCommitParseResult result(ConventionalCommitScan scan, int resultKind) {
+        switch (resultKind) {
+            case LAZY_BODY_RESULT:
+                return scan.lazyBodyResult((String) scan.text());
+            case VIEW_RESULT:
+                return scan.viewResult();
+            default:
+                return scan.result();
+        }
+    }
+
+    /**
+     * Scan the message once, finding the offsets of its parts.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @param timer Timer marking the end of header and footer phases
+     * @return Offsets of the parts, or the failure if the header is not valid
+     */
+    ConventionalCommitScan scan(CharSequence fullCommitMessage, PhaseTimer timer) {
+        timer.start();
+
+        ConventionalCommitParseResult headerFailure = limitFailure(fullCommitMessage);
+        ConventionalCommitMessage message = null;
+
+        if (headerFailure == null) {
+            message = headerMatcher.find(fullCommitMessage);
+            headerFailure = matchFailure(fullCommitMessage, message);
+        }
+
+        timer.headerScanned();
+
+        if (headerFailure != null) {
+            return ConventionalCommitScan.failure(fullCommitMessage, headerFailure);
+        }
+
+        ConventionalCommitScan scan = ConventionalCommitScan.success(fullCommitMessage, message, limits);
+
+        timer.footerScanned();
+
+        return scan;
+    }
+
+    /**
+     * Find header at the beginning of the message, if the message is within limits.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @return Header of the message, {@code null} if message is over a limit or does not start with a valid header
+     */
+    ConventionalCommitMessage header(CharSequence fullCommitMessage) {
+        if (exceededLimit(fullCommitMessage) != null) {
+            return null;
+        }
+
+        return headerMatcher.find(fullCommitMessage);
+    }
+
+    /**
+     * Limit of the message which is exceeded, checked before matching the header.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @return Error of the exceeded limit, {@code null} if message is within the limits checked before matching
+     */
+    private ConventionalCommitParseError exceededLimit(CharSequence fullCommitMessage) {
+        int length = fullCommitMessage.length();
+
+        if (length <= uncheckedLength) {
+            return null;
+        }
+
+        if (length > limits.maxMessageLength()) {
+            return ConventionalCommitParseError.MESSAGE_TOO_LONG;
+        }
+
+        int maxHeaderLength = limits.maxHeaderLength();
+        long maxScanSteps = limits.maxScanSteps();
+        int firstLineEnd = ConventionalCommitHeaderMatcher.firstLineEnd(
+            fullCommitMessage,
+            maxHeaderLength == Integer.MAX_VALUE ? Integer.MAX_VALUE : maxHeaderLength + 1
+        );
+
+        if (firstLineEnd > maxHeaderLength) {
+            return ConventionalCommitParseError.HEADER_TOO_LONG;
+        }
+
+        if (firstLineEnd > headerMatcher.maxBoundedLineLength(maxScanSteps)
+            && headerMatcher.scanSteps(fullCommitMessage, firstLineEnd, maxScanSteps) > maxScanSteps) {
+            return ConventionalCommitParseError.SCAN_STEPS_EXCEEDED;
+        }
+
+        return null;
+    }
+
+    private ConventionalCommitParseResult limitFailure(CharSequence fullCommitMessage) {
+        ConventionalCommitParseError exceededLimit = exceededLimit(fullCommitMessage);
+
+        if (exceededLimit == null) {
+            return null;
+        }
+
+        switch (exceededLimit) {
+            case MESSAGE_TOO_LONG:
+                return ConventionalCommitParseResult.failure(exceededLimit, limits.maxMessageLength());
+            case HEADER_TOO_LONG:
+                return ConventionalCommitParseResult.failure(exceededLimit, limits.maxHeaderLength());
+            default:
+                return ConventionalCommitParseResult.failure(exceededLimit, 0);
+        }
+    }
+
+    /**
+     * Header is valid, checked without computing the offset of a failure.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @param message Header found in the message, {@code null} if there is none
+     * @return {@code true} if the header is valid, {@code false} otherwise
+     */
+    boolean isValidHeader(CharSequence fullCommitMessage, ConventionalCommitMessage message) {
+        return message != null
+            && !CharSequences.isBlank(fullCommitMessage, 0, message.typeEnd())
+            && !CharSequences.isBlank(fullCommitMessage, message.descriptionStart(), message.end());
+    }
+
+    /**
+     * Reason why the header is not valid.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @param message Header found in the message, {@code null} if there is none
+     * @return Failure, {@code null} if the header is valid
+     */
+    ConventionalCommitParseResult headerFailure(CharSequence fullCommitMessage, ConventionalCommitMessage message) {
+        ConventionalCommitParseResult limitFailure = message == null ? limitFailure(fullCommitMessage) : null;
+
+        return limitFailure == null ? matchFailure(fullCommitMessage, message) : limitFailure;
+    }
+
+    /**
+     * Reason why the header does not match, limits being already checked.
+     */
+    private ConventionalCommitParseResult matchFailure(
+        CharSequence fullCommitMessage,
+        ConventionalCommitMessage message
     ) {
-        return new ConventionalCommit(
-            message.type(),
-            message.scope(),
-            message.exclamation(),
-            message.description(),
-            body,
-            footer.footer()
+        if (message == null) {
+            return ConventionalCommitParseResult.failure(
+                ConventionalCommitParseError.MALFORMED_HEADER,
+                headerMatcher.mismatchOffset(fullCommitMessage)
+            );
+        }
+
+        if (CharSequences.isBlank(fullCommitMessage, 0, message.typeEnd())) {
+            return ConventionalCommitParseResult.failure(ConventionalCommitParseError.MISSING_TYPE, 0);
+        }
+
+        if (CharSequences.isBlank(fullCommitMessage, message.descriptionStart(), message.end())) {
+            return ConventionalCommitParseResult.failure(
+                ConventionalCommitParseError.MISSING_DESCRIPTION,
+                message.descriptionStart()
+            );
+        }
+
+        return null;
+    }
+
+    /**
+     * <p>Parse raw conventional commit messages in parallel, using the common fork-join pool.</p>
+     *
+     * A message which cannot be parsed does not stop the others: its failure is reported in its result.
+     *
+     * @param fullCommitMessages Raw conventional commit messages
+     * @return Parsing results, in the same order as the messages
+     *
+     * @since 1.3.0
+     */
+    public List<ConventionalCommitParseResult> parseAll(Iterable<String> fullCommitMessages) {
+        return toCollection(fullCommitMessages)
+            .parallelStream()
+            .map(this::tryParse)
+            .collect(toList());
+    }
+
+    /**
+     * <p>Parse raw conventional commit messages in parallel, using the given executor.</p>
+     *
+     * Messages are split in batches, each batch being parsed by one task.
+     * A message which cannot be parsed does not stop the others: its failure is reported in its result.
+     *
+     * @param fullCommitMessages Raw conventional commit messages
+     * @param executor Executor running parsing tasks
+     * @return Parsing results, in the same order as the messages
+     *
+     * @since 1.3.0
+     */
+    public List<ConventionalCommitParseResult> parseAll(Iterable<String> fullCommitMessages, Executor executor) {
+        List<CompletableFuture<List<ConventionalCommitParseResult>>> batches = new ArrayList<>();
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+
+        for (String fullCommitMessage : fullCommitMessages) {
+            batch.add(fullCommitMessage);
+
+            if (batch.size() == BATCH_SIZE) {
+                batches.add(parseBatch(batch, executor));
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            batches.add(parseBatch(batch, executor));
+        }
+
+        List<ConventionalCommitParseResult> results = new ArrayList<>();
+
+        batches.forEach(future -> results.addAll(future.join()));
+
+        return results;
+    }
+
+    /**
+     * <p>Parse raw conventional commit messages in parallel.</p>
+     *
+     * Returned stream is parallel, running in the common fork-join pool unless the terminal operation
+     * is executed from another fork-join pool. Encounter order of the messages is kept.
+     * A message which cannot be parsed does not stop the others: its failure is reported in its result.
+     *
+     * @param fullCommitMessages Raw conventional commit messages
+     * @return Parsing results, in the same order as the messages
+     *
+     * @since 1.3.0
+     */
+    public Stream<ConventionalCommitParseResult> parseAll(Stream<String> fullCommitMessages) {
+        return fullCommitMessages
+            .parallel()
+            .map(this::tryParse);
+    }
+
+    /**
+     * <p>Parse raw conventional commit messages in parallel, splitting work with the given spliterator.</p>
+     *
+     * Returned stream is parallel. Encounter order of the messages is kept.
+     * A message which cannot be parsed does not stop the others: its failure is reported in its result.
+     *
+     * @param fullCommitMessages Raw conventional commit messages
+     * @return Parsing results, in the same order as the messages
+     *
+     * @since 1.3.0
+     */
+    public Stream<ConventionalCommitParseResult> parseAll(Spliterator<String> fullCommitMessages) {
+        return parseAll(StreamSupport.stream(fullCommitMessages, true));
+    }
+
+    private CompletableFuture<List<ConventionalCommitParseResult>> parseBatch(List<String> batch, Executor executor) {
+        return CompletableFuture.supplyAsync(
+            () -> batch.stream()
+                .map(this::tryParse)
+                .collect(toList()),
+            executor
         );
     }
 
+    private static <T> Collection<T> toCollection(Iterable<T> iterable) {
+        if (iterable instanceof Collection) {
+            return (Collection<T>) iterable;
+        }
+
+        List<T> list = new ArrayList<>();
+
+        iterable.forEach(list::add);
+
+        return list;
+    }
+
+    static String body(CharSequence fullCommitMessage, int headerEnd, int footerStart) {
+        int start = CharSequences.trimStart(fullCommitMessage, headerEnd, footerStart);
+        int end = CharSequences.trimEnd(fullCommitMessage, start, footerStart);
+
+        if (start == end) {
+            return null;
+        }
+
+        return fullCommitMessage.subSequence(start, end).toString();
+    }
+
+    static String scope(CharSequence fullCommitMessage, ConventionalCommitMessage message) {
+        if (message.scopeStart() < 0) {
+            return null;
+        }
+
+        return CANONICAL_NAMES.canonical(fullCommitMessage, message.scopeStart(), message.scopeEnd());
+    }
+
 }
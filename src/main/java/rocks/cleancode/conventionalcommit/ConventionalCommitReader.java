@@ -0,0 +1,271 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * <p>Reader of conventional commit messages separated by a delimiter.</p>
+ *
+ * Designed to read the output of {@code git log --format=%B%x00}: input is decoded incrementally
+ * into a reused buffer and messages are parsed one at a time, so memory stays bounded by the size
+ * of the largest message, whatever the size of the input. Whitespaces around each message are
+ * ignored, as well as blank messages.
+ *
+ * @since 1.3.0
+ */
+public class ConventionalCommitReader implements Closeable {
+
+    /**
+     * Default delimiter between messages, {@code NUL} character as produced by {@code %x00} in git format.
+     *
+     * @since 1.3.0
+     */
+    public static final char DEFAULT_DELIMITER = '\0';
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ConventionalCommitParser parser;
+
+    private final Reader reader;
+
+    private final char delimiter;
+
+    private final char[] buffer;
+
+    private final StringBuilder message;
+
+    private int position;
+
+    private int limit;
+
+    /**
+     * Constructor reading messages separated by {@link #DEFAULT_DELIMITER}.
+     *
+     * @param parser Parser of conventional commit messages
+     * @param reader Reader of messages
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitReader(ConventionalCommitParser parser, Reader reader) {
+        this(parser, reader, DEFAULT_DELIMITER);
+    }
+
+    /**
+     * Constructor with custom delimiter.
+     *
+     * @param parser Parser of conventional commit messages
+     * @param reader Reader of messages
+     * @param delimiter Delimiter between messages
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitReader(ConventionalCommitParser parser, Reader reader, char delimiter) {
+        this.parser = parser;
+        this.reader = reader;
+        this.delimiter = delimiter;
+        this.buffer = new char[BUFFER_SIZE];
+        this.message = new StringBuilder();
+    }
+
+    /**
+     * Constructor reading UTF-8 messages separated by {@link #DEFAULT_DELIMITER}.
+     *
+     * @param parser Parser of conventional commit messages
+     * @param inputStream UTF-8 encoded messages
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitReader(ConventionalCommitParser parser, InputStream inputStream) {
+        this(parser, new InputStreamReader(inputStream, decoder()));
+    }
+
+    /**
+     * Constructor reading UTF-8 messages separated by {@link #DEFAULT_DELIMITER}.
+     *
+     * @param parser Parser of conventional commit messages
+     * @param channel UTF-8 encoded messages
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitReader(ConventionalCommitParser parser, ReadableByteChannel channel) {
+        this(parser, Channels.newReader(channel, decoder(), BUFFER_SIZE));
+    }
+
+    /**
+     * Open a file of UTF-8 messages separated by {@link #DEFAULT_DELIMITER}.
+     * File is memory-mapped window by window, so it can be larger than the heap.
+     *
+     * @param parser Parser of conventional commit messages
+     * @param path Path of the file
+     * @return Reader of the file, to be closed
+     * @throws IOException If file cannot be opened
+     *
+     * @since 1.3.0
+     */
+    public static ConventionalCommitReader open(ConventionalCommitParser parser, Path path) throws IOException {
+        return new ConventionalCommitReader(parser, new MappedFileChannel(path));
+    }
+
+    private static CharsetDecoder decoder() {
+        return UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Read and parse next message.
+     *
+     * @return Parsing result of the next message, {@code null} if end of input is reached
+     * @throws IOException If input cannot be read
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitParseResult read() throws IOException {
+        CharSequence next = readMessage();
+
+        return next == null ? null : parser.tryParse(next.toString());
+    }
+
+    /**
+     * Read next message without parsing it.
+     *
+     * @return Next non-blank message without surrounding whitespaces, in a buffer reused by the next read;
+     *         {@code null} if end of input is reached
+     * @throws IOException If input cannot be read
+     */
+    CharSequence readMessage() throws IOException {
+        while (nextMessage()) {
+            int start = CharSequences.trimStart(message, 0, message.length());
+            int end = CharSequences.trimEnd(message, start, message.length());
+
+            if (start < end) {
+                message.setLength(end);
+                message.delete(0, start);
+
+                return message;
+            }
+        }
+
+        return null;
+    }
+
+    private boolean nextMessage() throws IOException {
+        message.setLength(0);
+
+        while (true) {
+            if (position == limit && !fill()) {
+                return message.length() > 0;
+            }
+
+            int index = position;
+
+            while (index < limit && buffer[index] != delimiter) {
+                index++;
+            }
+
+            message.append(buffer, position, index - position);
+
+            if (index < limit) {
+                position = index + 1;
+
+                return true;
+            }
+
+            position = limit;
+        }
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer);
+
+        if (read < 0) {
+            return false;
+        }
+
+        position = 0;
+        limit = read;
+
+        return true;
+    }
+
+    /**
+     * <p>Stream of parsing results of the remaining messages.</p>
+     *
+     * Messages are read lazily, as the stream is consumed. Closing the stream closes this reader.
+     *
+     * @return Sequential stream of parsing results
+     * @throws UncheckedIOException If input cannot be read while the stream is consumed
+     *
+     * @since 1.3.0
+     */
+    public Stream<ConventionalCommitParseResult> stream() {
+        Spliterator<ConventionalCommitParseResult> spliterator =
+            new Spliterators.AbstractSpliterator<ConventionalCommitParseResult>(
+                Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL
+            ) {
+
+                @Override
+                public boolean tryAdvance(Consumer<? super ConventionalCommitParseResult> action) {
+                    ConventionalCommitParseResult result = readUnchecked();
+
+                    if (result == null) {
+                        return false;
+                    }
+
+                    action.accept(result);
+
+                    return true;
+                }
+
+            };
+
+        return StreamSupport.stream(spliterator, false)
+            .onClose(this::closeUnchecked);
+    }
+
+    private ConventionalCommitParseResult readUnchecked() {
+        try {
+            return read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void closeUnchecked() {
+        try {
+            close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Close the underlying input.
+     *
+     * @throws IOException If input cannot be closed
+     *
+     * @since 1.3.0
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
@@ -0,0 +1,69 @@
+package rocks.cleancode.conventionalcommit;
+
+/**
+ * Rule checked by {@link ConventionalCommitValidator}, on top of the conventional commit format.
+ *
+ * @since 1.3.0
+ */
+public enum ConventionalCommitRule {
+
+    /**
+     * Scope is not one of the allowed scopes.
+     *
+     * @since 1.3.0
+     */
+    SCOPE_NOT_ALLOWED("Scope is not allowed"),
+
+    /**
+     * Header is longer than the maximum length.
+     *
+     * @since 1.3.0
+     */
+    HEADER_TOO_LONG("Header is too long"),
+
+    /**
+     * Description starts with an upper case letter.
+     *
+     * @since 1.3.0
+     */
+    DESCRIPTION_NOT_LOWER_CASE("Description must start with a lower case letter"),
+
+    /**
+     * Body is not separated from the header by a blank line.
+     *
+     * @since 1.3.0
+     */
+    MISSING_BLANK_LINE_BEFORE_BODY("Body must be separated from header by a blank line"),
+
+    /**
+     * A required footer key is missing.
+     *
+     * @since 1.3.0
+     */
+    MISSING_FOOTER_KEY("Footer key is missing"),
+
+    /**
+     * A line of the body is longer than the maximum length.
+     *
+     * @since 1.3.0
+     */
+    BODY_LINE_TOO_LONG("Body line is too long");
+
+    private final String message;
+
+    ConventionalCommitRule(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Human readable description of the rule violation.
+     *
+     * @return Violation description
+     *
+     * @since 1.3.0
+     */
+    public String message() {
+        return message;
+    }
+
+}
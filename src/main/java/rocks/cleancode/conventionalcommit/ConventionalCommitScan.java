@@ -0,0 +1,163 @@
+package rocks.cleancode.conventionalcommit;
+
+/**
+ * <p>Offsets of the parts of a message, found by one scan of the parser.</p>
+ *
+ * Shared by the parser, which builds the conventional commit from it, and by the validator,
+ * which checks its rules on the same offsets without scanning the message again.
+ */
+final class ConventionalCommitScan {
+
+    private final CharSequence text;
+
+    private final ConventionalCommitParseResult failure;
+
+    private final ConventionalCommitMessage header;
+
+    private final int footerStart;
+
+    private final int[] footerEntries;
+
+    private ConventionalCommitScan(
+        CharSequence text,
+        ConventionalCommitParseResult failure,
+        ConventionalCommitMessage header,
+        int footerStart,
+        int[] footerEntries
+    ) {
+        this.text = text;
+        this.failure = failure;
+        this.header = header;
+        this.footerStart = footerStart;
+        this.footerEntries = footerEntries;
+    }
+
+    static ConventionalCommitScan failure(CharSequence text, ConventionalCommitParseResult failure) {
+        return new ConventionalCommitScan(text, failure, null, text.length(), null);
+    }
+
+    /**
+     * Scan of a message with a valid header, failing if the footer is over the limits.
+     *
+     * @param text Message
+     * @param header Header of the message
+     * @param limits Limits of the parser
+     * @return Scan of the message
+     */
+    static ConventionalCommitScan success(
+        CharSequence text,
+        ConventionalCommitMessage header,
+        ConventionalCommitLimits limits
+    ) {
+        ConventionalCommitFooterScanner footer = new ConventionalCommitFooterScanner(text, limits.maxFooterLines());
+
+        if (footer.excessLineStart() >= 0) {
+            return failure(
+                text,
+                ConventionalCommitParseResult.failure(
+                    ConventionalCommitParseError.TOO_MANY_FOOTER_LINES,
+                    footer.excessLineStart()
+                )
+            );
+        }
+
+        return new ConventionalCommitScan(text, null, header, footer.start(), footer.entries());
+    }
+
+    boolean isSuccess() {
+        return failure == null;
+    }
+
+    CharSequence text() {
+        return text;
+    }
+
+    ConventionalCommitMessage header() {
+        return header;
+    }
+
+    int footerStart() {
+        return footerStart;
+    }
+
+    /**
+     * Offsets of footer entries.
+     *
+     * @return Offsets, {@link ConventionalCommitFooterScanner#ENTRY_OFFSETS} values per entry
+     * @see ConventionalCommitFooterScanner#entries()
+     */
+    int[] footerEntries() {
+        return footerEntries;
+    }
+
+    /**
+     * Start of the body, without leading whitespaces.
+     *
+     * @return Offset of the body, equal to {@link #bodyEnd()} if there is no body
+     */
+    int bodyStart() {
+        return CharSequences.trimStart(text, header.end(), footerStart);
+    }
+
+    /**
+     * End of the body, without trailing whitespaces.
+     *
+     * @return Offset following the body
+     */
+    int bodyEnd() {
+        return CharSequences.trimEnd(text, bodyStart(), footerStart);
+    }
+
+    ConventionalCommitParseResult result() {
+        if (failure != null) {
+            return failure;
+        }
+
+        return ConventionalCommitParseResult.success(
+            ConventionalCommit.of(
+                header.type(),
+                ConventionalCommitParser.scope(text, header),
+                header.exclamation(),
+                header.description(),
+                ConventionalCommitParser.body(text, header.end(), footerStart),
+                ConventionalCommitFooterScanner.footer(text, footerEntries, 0)
+            )
+        );
+    }
+
+    /**
+     * Result with a body extracted on first access.
+     *
+     * @param source Scanned message
+     * @return Parsing result
+     */
+    ConventionalCommitParseResult lazyBodyResult(String source) {
+        if (failure != null) {
+            return failure;
+        }
+
+        return ConventionalCommitParseResult.success(
+            new LazyBodyConventionalCommit(
+                header.type(),
+                ConventionalCommitParser.scope(text, header),
+                header.exclamation(),
+                header.description(),
+                ConventionalCommitFooterScanner.footer(text, footerEntries, 0),
+                source,
+                header.end(),
+                footerStart
+            )
+        );
+    }
+
+    ConventionalCommitParseResult viewResult() {
+        if (failure != null) {
+            return failure;
+        }
+
+        return ConventionalCommitParseResult.success(
+            new ConventionalCommitView(text, header, header.end(), footerStart, footerEntries)
+        );
+    }
+
+}
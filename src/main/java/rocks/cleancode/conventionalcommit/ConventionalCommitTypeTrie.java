@@ -0,0 +1,156 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * <p>Prefix tree of types, finding the longest type at the beginning of a text.</p>
+ *
+ * Nodes are numbered in breadth-first order and kept in arrays: the children of a node are consecutive,
+ * sorted by character, and found by binary search. Looking up a type reads each of its characters once,
+ * whatever the number of types.
+ */
+class ConventionalCommitTypeTrie {
+
+    private static final int ROOT = 0;
+
+    private static final int NO_NODE = -1;
+
+    private static class Node {
+
+        private final Map<Character, Node> children = new TreeMap<>();
+
+        private String type;
+
+    }
+
+    /**
+     * Character leading to each node from its parent.
+     */
+    private final char[] labels;
+
+    /**
+     * First child of each node, the children of a node ending at the first child of the next node.
+     */
+    private final int[] firstChildren;
+
+    /**
+     * Type ending at each node, {@code null} if a node is only a prefix of types.
+     */
+    private final String[] types;
+
+    ConventionalCommitTypeTrie(List<String> types) {
+        Node root = new Node();
+        int nodeCount = 1;
+
+        for (String type : types) {
+            Node node = root;
+
+            for (int index = 0; index < type.length(); index++) {
+                Node child = node.children.get(type.charAt(index));
+
+                if (child == null) {
+                    child = new Node();
+                    node.children.put(type.charAt(index), child);
+                    nodeCount++;
+                }
+
+                node = child;
+            }
+
+            node.type = type;
+        }
+
+        this.labels = new char[nodeCount];
+        this.firstChildren = new int[nodeCount + 1];
+        this.types = new String[nodeCount];
+
+        Queue<Node> queue = new ArrayDeque<>();
+        queue.add(root);
+
+        int next = 1;
+
+        for (int index = 0; index < nodeCount; index++) {
+            Node node = queue.remove();
+
+            this.types[index] = node.type;
+            this.firstChildren[index] = next;
+
+            for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                this.labels[next++] = child.getKey();
+                queue.add(child.getValue());
+            }
+        }
+
+        this.firstChildren[nodeCount] = next;
+    }
+
+    /**
+     * Length of the longest type which is a prefix of the given text and is not longer than {@code maxLength}.
+     *
+     * @param text Text to look up
+     * @param maxLength Maximum length of the type
+     * @return Length of the matching type, {@code -1} if no type matches
+     */
+    int longestPrefix(CharSequence text, int maxLength) {
+        int limit = Math.min(maxLength, text.length());
+        int longest = -1;
+
+        int node = ROOT;
+
+        for (int index = 0; node != NO_NODE; index++) {
+            if (types[node] != null) {
+                longest = index;
+            }
+
+            if (index == limit) {
+                break;
+            }
+
+            node = child(node, text.charAt(index));
+        }
+
+        return longest;
+    }
+
+    /**
+     * Type instance given at construction, matching the beginning of the given text.
+     *
+     * @param text Text starting with a type
+     * @param length Length of the type, as returned by {@link #longestPrefix(CharSequence, int)}
+     * @return Type given at construction, {@code null} if text does not start with a type of this length
+     */
+    String type(CharSequence text, int length) {
+        int node = ROOT;
+
+        for (int index = 0; node != NO_NODE && index < length; index++) {
+            node = child(node, text.charAt(index));
+        }
+
+        return node == NO_NODE ? null : types[node];
+    }
+
+    private int child(int node, char character) {
+        int low = firstChildren[node];
+        int high = firstChildren[node + 1] - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char label = labels[middle];
+
+            if (label < character) {
+                low = middle + 1;
+            } else if (label > character) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return NO_NODE;
+    }
+
+}
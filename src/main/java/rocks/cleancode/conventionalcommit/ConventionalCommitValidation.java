@@ -0,0 +1,58 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.util.List;
+
+/**
+ * <p>Result of validating one conventional commit message.</p>
+ *
+ * Holds the parsing result and the violations of the validator rules. Rules are only checked
+ * when the message has been parsed: a message which is not a conventional commit has no violation,
+ * its parsing error is reported by {@link #result()}.
+ *
+ * @since 1.3.0
+ */
+public final class ConventionalCommitValidation {
+
+    private final ConventionalCommitParseResult result;
+
+    private final List<ConventionalCommitViolation> violations;
+
+    ConventionalCommitValidation(ConventionalCommitParseResult result, List<ConventionalCommitViolation> violations) {
+        this.result = result;
+        this.violations = violations;
+    }
+
+    /**
+     * Result of parsing the message.
+     *
+     * @return Parsed conventional commit message, or parsing error
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitParseResult result() {
+        return result;
+    }
+
+    /**
+     * Violations of the validator rules.
+     *
+     * @return Unmodifiable list of violations, sorted by offset; empty if all rules are respected
+     *
+     * @since 1.3.0
+     */
+    public List<ConventionalCommitViolation> violations() {
+        return violations;
+    }
+
+    /**
+     * Indicator of a valid message.
+     *
+     * @return {@code true} if message has been parsed and respects all rules, {@code false} otherwise
+     *
+     * @since 1.3.0
+     */
+    public boolean isValid() {
+        return result.isSuccess() && violations.isEmpty();
+    }
+
+}
@@ -0,0 +1,348 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Comparator.comparingInt;
+import static rocks.cleancode.conventionalcommit.ConventionalCommitHeaderMatcher.isLineTerminator;
+
+/**
+ * <p>Conventional commit message validator, checking rules on top of the conventional commit format.</p>
+ *
+ * Rules are compiled once when the validator is built. They are checked on the offsets found while parsing,
+ * so the message is scanned once for parsing and validation; only the body is read again, when its line length
+ * is checked. Messages are parsed as {@link ConventionalCommitParser#tryParse(String)} does, with the limits,
+ * body extraction and metrics of the parser. Every violation is reported with its offset. Validators are immutable
+ * and can be shared between threads.
+ *
+ * @since 1.3.0
+ */
+public final class ConventionalCommitValidator {
+
+    /**
+     * Builder of validator. No rule is checked unless it is added to the builder.
+     *
+     * @since 1.3.0
+     */
+    public static class Builder {
+
+        private ConventionalCommitParser parser = new ConventionalCommitParser();
+
+        private final List<Check> checks = new ArrayList<>();
+
+        /**
+         * Parser used to parse messages, defining allowed types.
+         *
+         * @param parser Parser
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder parser(ConventionalCommitParser parser) {
+            this.parser = parser;
+
+            return this;
+        }
+
+        /**
+         * Only allow the given scopes. Messages without scope are allowed.
+         *
+         * @param scopes Allowed scopes
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder allowedScopes(String... scopes) {
+            Set<String> allowedScopes = new HashSet<>(asList(scopes));
+
+            checks.add((scan, violations) -> checkScope(scan, allowedScopes, violations));
+
+            return this;
+        }
+
+        /**
+         * Maximum length of the header, i.e. the first line.
+         *
+         * @param maxLength Maximum number of characters
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder maxHeaderLength(int maxLength) {
+            checks.add((scan, violations) -> checkHeaderLength(scan, maxLength, violations));
+
+            return this;
+        }
+
+        /**
+         * Description must not start with an upper case letter, leading whitespaces being skipped.
+         *
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder lowerCaseDescription() {
+            checks.add(ConventionalCommitValidator::checkDescriptionCase);
+
+            return this;
+        }
+
+        /**
+         * Body, if any, must be separated from the header by a blank line.
+         *
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder blankLineBeforeBody() {
+            checks.add(ConventionalCommitValidator::checkBlankLineBeforeBody);
+
+            return this;
+        }
+
+        /**
+         * Footer must contain the given keys.
+         *
+         * @param keys Required footer keys
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder requiredFooterKeys(String... keys) {
+            List<String> requiredKeys = new ArrayList<>(asList(keys));
+
+            checks.add((scan, violations) -> checkFooterKeys(scan, requiredKeys, violations));
+
+            return this;
+        }
+
+        /**
+         * Maximum length of each line of the body.
+         *
+         * @param maxLength Maximum number of characters per line
+         * @return Current builder instance
+         *
+         * @since 1.3.0
+         */
+        public Builder maxBodyLineLength(int maxLength) {
+            checks.add((scan, violations) -> checkBodyLineLength(scan, maxLength, violations));
+
+            return this;
+        }
+
+        /**
+         * Build the validator with the given rules.
+         *
+         * @return Validator
+         *
+         * @since 1.3.0
+         */
+        public ConventionalCommitValidator build() {
+            return new ConventionalCommitValidator(this);
+        }
+
+    }
+
+    private interface Check {
+
+        void check(ConventionalCommitScan scan, List<ConventionalCommitViolation> violations);
+
+    }
+
+    private final ConventionalCommitParser parser;
+
+    private final Check[] checks;
+
+    private ConventionalCommitValidator(Builder builder) {
+        this.parser = builder.parser;
+        this.checks = builder.checks.toArray(new Check[0]);
+    }
+
+    /**
+     * Parse and validate raw conventional commit message.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @return Parsing result and rule violations
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitValidation validate(String fullCommitMessage) {
+        PhaseTimer timer = parser.timer();
+        ConventionalCommitScan scan = parser.scan(fullCommitMessage, timer);
+        ConventionalCommitParseResult result = timer.report(fullCommitMessage.length(), parser.result(scan));
+
+        if (!scan.isSuccess()) {
+            return new ConventionalCommitValidation(result, Collections.emptyList());
+        }
+
+        List<ConventionalCommitViolation> violations = new ArrayList<>(0);
+
+        for (Check check : checks) {
+            check.check(scan, violations);
+        }
+
+        violations.sort(comparingInt(ConventionalCommitViolation::offset));
+
+        return new ConventionalCommitValidation(result, Collections.unmodifiableList(violations));
+    }
+
+    private static void checkScope(
+        ConventionalCommitScan scan,
+        Set<String> allowedScopes,
+        List<ConventionalCommitViolation> violations
+    ) {
+        ConventionalCommitMessage header = scan.header();
+        String scope = ConventionalCommitParser.scope(scan.text(), header);
+
+        if (scope != null && !allowedScopes.contains(scope)) {
+            violations.add(new ConventionalCommitViolation(
+                ConventionalCommitRule.SCOPE_NOT_ALLOWED,
+                header.scopeStart(),
+                scope
+            ));
+        }
+    }
+
+    private static void checkHeaderLength(
+        ConventionalCommitScan scan,
+        int maxLength,
+        List<ConventionalCommitViolation> violations
+    ) {
+        int length = scan.header().end();
+
+        if (length > maxLength) {
+            violations.add(new ConventionalCommitViolation(
+                ConventionalCommitRule.HEADER_TOO_LONG,
+                maxLength,
+                length + " characters, maximum is " + maxLength
+            ));
+        }
+    }
+
+    private static void checkDescriptionCase(
+        ConventionalCommitScan scan,
+        List<ConventionalCommitViolation> violations
+    ) {
+        // Leading whitespaces are not letters, the case of the first visible character is checked
+        int descriptionStart = CharSequences.trimStart(
+            scan.text(),
+            scan.header().descriptionStart(),
+            scan.header().end()
+        );
+
+        if (Character.isUpperCase(scan.text().charAt(descriptionStart))) {
+            violations.add(new ConventionalCommitViolation(
+                ConventionalCommitRule.DESCRIPTION_NOT_LOWER_CASE,
+                descriptionStart,
+                scan.header().description()
+            ));
+        }
+    }
+
+    private static void checkBlankLineBeforeBody(
+        ConventionalCommitScan scan,
+        List<ConventionalCommitViolation> violations
+    ) {
+        CharSequence text = scan.text();
+        int bodyStart = scan.bodyStart();
+
+        if (bodyStart == scan.bodyEnd()) {
+            return;
+        }
+
+        int lineBreaks = 0;
+
+        for (int index = scan.header().end(); index < bodyStart; index++) {
+            char character = text.charAt(index);
+            boolean crlf = character == '\r' && index + 1 < bodyStart && text.charAt(index + 1) == '\n';
+
+            if (isLineTerminator(character) && !crlf) {
+                lineBreaks++;
+            }
+        }
+
+        if (lineBreaks < 2) {
+            violations.add(new ConventionalCommitViolation(
+                ConventionalCommitRule.MISSING_BLANK_LINE_BEFORE_BODY,
+                bodyStart,
+                null
+            ));
+        }
+    }
+
+    private static void checkFooterKeys(
+        ConventionalCommitScan scan,
+        List<String> requiredKeys,
+        List<ConventionalCommitViolation> violations
+    ) {
+        for (String key : requiredKeys) {
+            if (!containsFooterKey(scan, key)) {
+                violations.add(new ConventionalCommitViolation(
+                    ConventionalCommitRule.MISSING_FOOTER_KEY,
+                    scan.text().length(),
+                    key
+                ));
+            }
+        }
+    }
+
+    private static boolean containsFooterKey(ConventionalCommitScan scan, String key) {
+        CharSequence text = scan.text();
+        int[] entries = scan.footerEntries();
+
+        for (int index = 0; index < entries.length; index += ConventionalCommitFooterScanner.ENTRY_OFFSETS) {
+            if (regionEquals(text, entries[index], entries[index + 1], key)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean regionEquals(CharSequence text, int start, int end, String value) {
+        if (end - start != value.length()) {
+            return false;
+        }
+
+        for (int index = 0; index < value.length(); index++) {
+            if (text.charAt(start + index) != value.charAt(index)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static void checkBodyLineLength(
+        ConventionalCommitScan scan,
+        int maxLength,
+        List<ConventionalCommitViolation> violations
+    ) {
+        CharSequence text = scan.text();
+        int bodyEnd = scan.bodyEnd();
+        int lineStart = scan.bodyStart();
+
+        while (lineStart < bodyEnd) {
+            int lineEnd = lineStart;
+
+            while (lineEnd < bodyEnd && !isLineTerminator(text.charAt(lineEnd))) {
+                lineEnd++;
+            }
+
+            if (lineEnd - lineStart > maxLength) {
+                violations.add(new ConventionalCommitViolation(
+                    ConventionalCommitRule.BODY_LINE_TOO_LONG,
+                    lineStart + maxLength,
+                    (lineEnd - lineStart) + " characters, maximum is " + maxLength
+                ));
+            }
+
+            lineStart = lineEnd + 1;
+        }
+    }
+
+}
@@ -0,0 +1,187 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.nio.CharBuffer;
+import java.util.Optional;
+
+/**
+ * <p>Conventional commit backed by the parsed message.</p>
+ *
+ * Only the source message and offsets of each part are kept: strings are created on first access,
+ * and {@link CharSequence} accessors give access to the parts without any copy.
+ * A view is equal to a {@link ConventionalCommit} with the same values.
+ *
+ * @since 1.3.0
+ */
+public final class ConventionalCommitView extends ConventionalCommit {
+
+    private static final int TYPE_END = 0;
+
+    private static final int SCOPE_START = 1;
+
+    private static final int SCOPE_END = 2;
+
+    private static final int EXCLAMATION = 3;
+
+    private static final int DESCRIPTION_START = 4;
+
+    private static final int DESCRIPTION_END = 5;
+
+    private static final int BODY_START = 6;
+
+    private static final int BODY_END = 7;
+
+    private static final int FOOTER_ENTRIES = 8;
+
+    private final CharSequence source;
+
+    private final int[] offsets;
+
+    private final String type;
+
+    private String scope;
+
+    private String description;
+
+    private String body;
+
+    private ConventionalCommitFooter footer;
+
+    ConventionalCommitView(
+        CharSequence source,
+        ConventionalCommitMessage message,
+        int bodyStart,
+        int bodyEnd,
+        int[] footerEntries
+    ) {
+        this.source = source;
+        this.type = message.type();
+        this.offsets = new int[FOOTER_ENTRIES + footerEntries.length];
+
+        offsets[TYPE_END] = message.typeEnd();
+        offsets[SCOPE_START] = message.scopeStart();
+        offsets[SCOPE_END] = message.scopeEnd();
+        offsets[EXCLAMATION] = message.exclamation() ? 1 : 0;
+        offsets[DESCRIPTION_START] = message.descriptionStart();
+        offsets[DESCRIPTION_END] = message.end();
+        offsets[BODY_START] = CharSequences.trimStart(source, bodyStart, bodyEnd);
+        offsets[BODY_END] = CharSequences.trimEnd(source, offsets[BODY_START], bodyEnd);
+
+        System.arraycopy(footerEntries, 0, offsets, FOOTER_ENTRIES, footerEntries.length);
+    }
+
+    /**
+     * Message type, without copy.
+     *
+     * @return Message type
+     *
+     * @since 1.3.0
+     */
+    public CharSequence typeChars() {
+        return slice(0, offsets[TYPE_END]);
+    }
+
+    /**
+     * Message scope, without copy.
+     *
+     * @return {@link Optional} with message scope; empty if it does not exist
+     *
+     * @since 1.3.0
+     */
+    public Optional<CharSequence> scopeChars() {
+        if (offsets[SCOPE_START] < 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(slice(offsets[SCOPE_START], offsets[SCOPE_END]));
+    }
+
+    /**
+     * Message description, without copy.
+     *
+     * @return Message description
+     *
+     * @since 1.3.0
+     */
+    public CharSequence descriptionChars() {
+        return slice(offsets[DESCRIPTION_START], offsets[DESCRIPTION_END]);
+    }
+
+    /**
+     * Message body, without copy.
+     *
+     * @return {@link Optional} with message body; empty if it does not exist
+     *
+     * @since 1.3.0
+     */
+    public Optional<CharSequence> bodyChars() {
+        if (offsets[BODY_START] == offsets[BODY_END]) {
+            return Optional.empty();
+        }
+
+        return Optional.of(slice(offsets[BODY_START], offsets[BODY_END]));
+    }
+
+    @Override
+    public String type() {
+        return type;
+    }
+
+    @Override
+    public Optional<String> scope() {
+        if (scope == null && offsets[SCOPE_START] >= 0) {
+            scope = ConventionalCommitParser.CANONICAL_NAMES.canonical(
+                source,
+                offsets[SCOPE_START],
+                offsets[SCOPE_END]
+            );
+        }
+
+        return Optional.ofNullable(scope);
+    }
+
+    @Override
+    public boolean exclamation() {
+        return offsets[EXCLAMATION] == 1;
+    }
+
+    @Override
+    public String description() {
+        if (description == null) {
+            description = substring(offsets[DESCRIPTION_START], offsets[DESCRIPTION_END]);
+        }
+
+        return description;
+    }
+
+    @Override
+    public Optional<String> body() {
+        if (body == null && offsets[BODY_START] != offsets[BODY_END]) {
+            body = substring(offsets[BODY_START], offsets[BODY_END]);
+        }
+
+        return Optional.ofNullable(body);
+    }
+
+    @Override
+    public ConventionalCommitFooter footerEntries() {
+        if (footer == null) {
+            footer = ConventionalCommitFooterScanner.footer(source, offsets, FOOTER_ENTRIES);
+        }
+
+        return footer;
+    }
+
+    private CharSequence slice(int start, int end) {
+        if (source instanceof Utf8CharSequence) {
+            // Bytes must be decoded to get characters
+            return source.subSequence(start, end).toString();
+        }
+
+        return CharBuffer.wrap(source, start, end);
+    }
+
+    private String substring(int start, int end) {
+        return source.subSequence(start, end).toString();
+    }
+
+}
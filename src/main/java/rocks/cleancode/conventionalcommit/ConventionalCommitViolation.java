@@ -0,0 +1,111 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.util.Objects;
+
+/**
+ * Violation of a {@link ConventionalCommitRule} in a message.
+ *
+ * @since 1.3.0
+ */
+public final class ConventionalCommitViolation {
+
+    private final ConventionalCommitRule rule;
+
+    private final int offset;
+
+    private final String detail;
+
+    /**
+     * Constructor.
+     *
+     * @param rule Violated rule
+     * @param offset Offset of the faulty character
+     * @param detail Faulty value, {@code null} if the rule message is enough
+     */
+    ConventionalCommitViolation(ConventionalCommitRule rule, int offset, String detail) {
+        this.rule = rule;
+        this.offset = offset;
+        this.detail = detail;
+    }
+
+    /**
+     * Violated rule.
+     *
+     * @return Rule
+     *
+     * @since 1.3.0
+     */
+    public ConventionalCommitRule rule() {
+        return rule;
+    }
+
+    /**
+     * Offset of the faulty character in the message.
+     *
+     * @return Offset in the message
+     *
+     * @since 1.3.0
+     */
+    public int offset() {
+        return offset;
+    }
+
+    /**
+     * Human readable description of the violation, with the faulty value (scope, missing key...) if any.
+     *
+     * @return Violation description
+     *
+     * @since 1.3.0
+     */
+    public String message() {
+        return detail == null ? rule.message() : rule.message() + ": " + detail;
+    }
+
+    /**
+     * Compare with another violation: violations are equal if they have the same rule, offset and message.
+     *
+     * @param other Object to compare with
+     * @return {@code true} if other object is an equal violation, {@code false} otherwise
+     *
+     * @since 1.3.0
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof ConventionalCommitViolation)) {
+            return false;
+        }
+
+        ConventionalCommitViolation that = (ConventionalCommitViolation) other;
+
+        return rule == that.rule && offset == that.offset && Objects.equals(detail, that.detail);
+    }
+
+    /**
+     * Hash code consistent with {@link #equals(Object)}.
+     *
+     * @return Hash code
+     *
+     * @since 1.3.0
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(rule, offset, detail);
+    }
+
+    /**
+     * Violation with its offset.
+     *
+     * @return Violation description, prefixed by its offset
+     *
+     * @since 1.3.0
+     */
+    @Override
+    public String toString() {
+        return offset + ": " + message();
+    }
+
+}
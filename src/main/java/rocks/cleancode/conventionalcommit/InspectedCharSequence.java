@@ -0,0 +1,76 @@
+package rocks.cleancode.conventionalcommit;
+
+/**
+ * <p>Character sequence recording the range of characters which have been read.</p>
+ *
+ * Used to know which part of a message a scan depends on: an edit outside of this range
+ * cannot change the result of the scan.
+ */
+final class InspectedCharSequence implements CharSequence {
+
+    private final CharSequence text;
+
+    private int lowest = Integer.MAX_VALUE;
+
+    private int highest = -1;
+
+    InspectedCharSequence(CharSequence text) {
+        this.text = text;
+    }
+
+    /**
+     * Lowest offset read.
+     *
+     * @return Offset of the first character read, {@link Integer#MAX_VALUE} if no character has been read
+     */
+    int lowest() {
+        return lowest;
+    }
+
+    /**
+     * Highest offset read.
+     *
+     * @return Offset of the last character read, {@code -1} if no character has been read
+     */
+    int highest() {
+        return highest;
+    }
+
+    @Override
+    public int length() {
+        return text.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        char character = text.charAt(index);
+
+        inspect(index, index + 1);
+
+        return character;
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        CharSequence subSequence = text.subSequence(start, end);
+
+        inspect(start, end);
+
+        return subSequence;
+    }
+
+    @Override
+    public String toString() {
+        inspect(0, text.length());
+
+        return text.toString();
+    }
+
+    private void inspect(int start, int end) {
+        if (start < end) {
+            lowest = Math.min(lowest, start);
+            highest = Math.max(highest, end - 1);
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.util.Optional;
+
+/**
+ * <p>Parsed conventional commit keeping its body as offsets in the source message.</p>
+ *
+ * The body is only trimmed and copied when {@link #body()} is first called, so that reading the header
+ * or the footer does not pay for large bodies. The source message is kept as long as the commit is.
+ */
+final class LazyBodyConventionalCommit extends ConventionalCommit {
+
+    private static final String NO_BODY = "";
+
+    private final String source;
+
+    private final int bodyStart;
+
+    private final int bodyEnd;
+
+    private String body;
+
+    /**
+     * Constructor.
+     *
+     * @param type Message type
+     * @param scope Message scope, {@code null} if it does not exist
+     * @param exclamation {@code true} if exclamation mark appears in the message, {@code false} otherwise
+     * @param description Message description
+     * @param footer Footer entries
+     * @param source Full message
+     * @param bodyStart Offset following the header
+     * @param bodyEnd Offset of the footer, message length if there is no footer
+     */
+    LazyBodyConventionalCommit(
+        String type,
+        String scope,
+        boolean exclamation,
+        String description,
+        ConventionalCommitFooter footer,
+        String source,
+        int bodyStart,
+        int bodyEnd
+    ) {
+        super(type, scope, exclamation, description, footer);
+
+        this.source = source;
+        this.bodyStart = bodyStart;
+        this.bodyEnd = bodyEnd;
+    }
+
+    @Override
+    public Optional<String> body() {
+        String extracted = body;
+
+        if (extracted == null) {
+            extracted = ConventionalCommitParser.body(source, bodyStart, bodyEnd);
+
+            if (extracted == null) {
+                extracted = NO_BODY;
+            }
+
+            body = extracted;
+        }
+
+        return extracted.isEmpty() ? Optional.empty() : Optional.of(extracted);
+    }
+
+}
@@ -0,0 +1,88 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>Histogram of non-negative values in power of two buckets, stored in a range of a counter array.</p>
+ *
+ * Bucket {@code 0} counts the value {@code 0}, and bucket {@code i} the values from {@code 2^(i-1)}
+ * to {@code 2^i - 1}. The range holds the buckets, then the sum and the maximum of the values.
+ * A counter array must only be written by one thread, without atomic read-modify-write operations:
+ * recording a value costs a few plain stores, and snapshots read the arrays of all threads.
+ */
+final class LogHistogram {
+
+    static final int BUCKETS = Long.SIZE;
+
+    static final int SIZE = BUCKETS + 2;
+
+    private static final int SUM = BUCKETS;
+
+    private static final int MAX = BUCKETS + 1;
+
+    private LogHistogram() {
+    }
+
+    static int bucket(long value) {
+        return Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * Record a value in the histogram of a counter array written by the current thread only.
+     *
+     * @param counters Counter array of the current thread
+     * @param offset Offset of the histogram range
+     * @param value Recorded value, negative values being recorded as {@code 0}
+     */
+    static void record(AtomicLongArray counters, int offset, long value) {
+        long recorded = Math.max(value, 0);
+
+        increment(counters, offset + bucket(recorded), 1);
+        increment(counters, offset + SUM, recorded);
+
+        if (recorded > counters.get(offset + MAX)) {
+            counters.lazySet(offset + MAX, recorded);
+        }
+    }
+
+    static void increment(AtomicLongArray counters, int index, long delta) {
+        counters.lazySet(index, counters.get(index) + delta);
+    }
+
+    /**
+     * Add a histogram to the histogram of a counter array written by one thread at a time.
+     *
+     * @param counters Counter array written by the current thread
+     * @param added Counter array holding the added histogram, no longer written
+     * @param offset Offset of the histogram range in both arrays
+     */
+    static void merge(AtomicLongArray counters, AtomicLongArray added, int offset) {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            increment(counters, offset + bucket, added.get(offset + bucket));
+        }
+
+        increment(counters, offset + SUM, added.get(offset + SUM));
+
+        if (added.get(offset + MAX) > counters.get(offset + MAX)) {
+            counters.lazySet(offset + MAX, added.get(offset + MAX));
+        }
+    }
+
+    static ConventionalCommitHistogram snapshot(Iterable<AtomicLongArray> counterArrays, int offset) {
+        long[] bucketCounts = new long[BUCKETS];
+        long sum = 0;
+        long max = 0;
+
+        for (AtomicLongArray counters : counterArrays) {
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                bucketCounts[bucket] += counters.get(offset + bucket);
+            }
+
+            sum += counters.get(offset + SUM);
+            max = Math.max(max, counters.get(offset + MAX));
+        }
+
+        return new ConventionalCommitHistogram(bucketCounts, sum, max);
+    }
+
+}
@@ -0,0 +1,280 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * <p>Thread-safe cache keeping the most recently used values.</p>
+ *
+ * The cache is bounded by a number of values and by a total weight: least recently used values are evicted
+ * when a bound is exceeded. Values might also expire after a given time since their creation; expired values
+ * are removed when they are looked up, or evicted as any other value.
+ *
+ * Lookups do not lock: values are kept in a concurrent map, and a hit only stamps its entry with the value
+ * of an access clock. Entries are queued for eviction by stamp when they are stored, under a lock only taken
+ * to store values; an entry accessed since it was queued is queued again with its last stamp when it reaches
+ * the head of the queue, so that the least recently used value is still the one evicted.
+ *
+ * Values are created outside of the lock, so a slow creation does not block lookups of other keys;
+ * when two threads create the value of the same key, the first one stored is returned to both.
+ *
+ * @param <K> Type of keys
+ * @param <V> Type of values
+ */
+final class LruCache<K, V> {
+
+    static final long UNLIMITED = Long.MAX_VALUE;
+
+    private static final class Entry<K, V> {
+
+        private final K key;
+
+        private final V value;
+
+        private final int weight;
+
+        private final long writeTime;
+
+        /**
+         * Stamp of the last access, written without lock.
+         */
+        private volatile long accessed;
+
+        /**
+         * Stamp of the entry in the eviction queue, guarded by the lock.
+         */
+        private long queued;
+
+        private Entry(K key, V value, int weight, long writeTime, long accessed) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = writeTime;
+            this.accessed = accessed;
+            this.queued = accessed;
+        }
+
+    }
+
+    private final long maximumSize;
+
+    private final long maximumWeight;
+
+    private final ToIntFunction<? super K> weigher;
+
+    private final long expireAfterWriteNanos;
+
+    private final LongSupplier ticker;
+
+    private final ConcurrentHashMap<K, Entry<K, V>> values = new ConcurrentHashMap<>();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * Entries by stamp, the least recently queued first. Also the lock of all modifications of the cache.
+     */
+    private final PriorityQueue<Entry<K, V>> order =
+        new PriorityQueue<>(Comparator.comparingLong(entry -> entry.queued));
+
+    private long weight;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    LruCache(long maximumSize) {
+        this(maximumSize, UNLIMITED, key -> 0, UNLIMITED, System::nanoTime);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize Maximum number of values
+     * @param maximumWeight Maximum total weight of values, {@link #UNLIMITED} if weight is not bounded
+     * @param weigher Weight of the value of a key
+     * @param expireAfterWriteNanos Time in nanoseconds after which a value expires, {@link #UNLIMITED} if values
+     *                              do not expire
+     * @param ticker Current time in nanoseconds
+     */
+    LruCache(
+        long maximumSize,
+        long maximumWeight,
+        ToIntFunction<? super K> weigher,
+        long expireAfterWriteNanos,
+        LongSupplier ticker
+    ) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Maximum weight must not be negative");
+        }
+
+        if (expireAfterWriteNanos <= 0) {
+            throw new IllegalArgumentException("Expiration time must be positive");
+        }
+
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Cached value of the given key, created with the loader if it is not in the cache.
+     *
+     * @param key Key of the value
+     * @param loader Function creating the value of a key, must not return {@code null}
+     * @return Cached or created value
+     */
+    V get(K key, Function<? super K, ? extends V> loader) {
+        V value = lookup(key);
+
+        if (value != null) {
+            hits.increment();
+
+            return value;
+        }
+
+        misses.increment();
+
+        V created = loader.apply(key);
+        int createdWeight = weigher.applyAsInt(key);
+
+        synchronized (order) {
+            V existing = lookup(key);
+
+            if (existing != null) {
+                return existing;
+            }
+
+            store(key, created, createdWeight);
+        }
+
+        return created;
+    }
+
+    /**
+     * Cached value of the given key, counted as a hit if it is in the cache.
+     * Misses are not counted, as they are expected to be followed by {@link #get(Object, Function)}.
+     *
+     * @param key Key of the value, compared by equality with the keys of the cache
+     * @return Cached value, {@code null} if it is not in the cache
+     */
+    V getIfPresent(Object key) {
+        V value = lookup(key);
+
+        if (value != null) {
+            hits.increment();
+        }
+
+        return value;
+    }
+
+    /**
+     * Store a value, replacing the value of the same key if any.
+     *
+     * @param key Key of the value, must not be modified afterwards
+     * @param value Value
+     */
+    void put(K key, V value) {
+        int valueWeight = weigher.applyAsInt(key);
+
+        synchronized (order) {
+            store(key, value, valueWeight);
+        }
+    }
+
+    ConventionalCommitCacheStatistics statistics() {
+        return new ConventionalCommitCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), values.size());
+    }
+
+    private V lookup(Object key) {
+        Entry<K, V> entry = values.get(key);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (expireAfterWriteNanos != UNLIMITED && ticker.getAsLong() - entry.writeTime >= expireAfterWriteNanos) {
+            synchronized (order) {
+                if (values.remove(key, entry)) {
+                    weight -= entry.weight;
+                    evictions.increment();
+                }
+            }
+
+            return null;
+        }
+
+        // The clock only advances when another entry has been accessed since, so repeated hits write nothing
+        if (entry.accessed != clock.get()) {
+            entry.accessed = clock.incrementAndGet();
+        }
+
+        return entry.value;
+    }
+
+    /**
+     * Store a value and evict values over the bounds, with the lock held.
+     */
+    private void store(K key, V value, int valueWeight) {
+        Entry<K, V> entry = new Entry<>(key, value, valueWeight, ticker.getAsLong(), clock.incrementAndGet());
+        Entry<K, V> previous = values.put(key, entry);
+
+        if (previous != null) {
+            weight -= previous.weight;
+        }
+
+        weight += valueWeight;
+        order.add(entry);
+
+        evict();
+
+        // Entries removed or replaced stay in the queue until they reach its head: drop them all at once
+        // when they outnumber the entries of the cache
+        if (order.size() > 2 * values.size() + 16) {
+            order.clear();
+            values.values().forEach(this::requeue);
+        }
+    }
+
+    private void evict() {
+        while (values.size() > maximumSize || weight > maximumWeight) {
+            Entry<K, V> eldest = order.poll();
+
+            if (eldest == null) {
+                return;
+            }
+
+            if (values.get(eldest.key) != eldest) {
+                continue;
+            }
+
+            if (eldest.accessed != eldest.queued) {
+                requeue(eldest);
+                continue;
+            }
+
+            values.remove(eldest.key, eldest);
+            weight -= eldest.weight;
+            evictions.increment();
+        }
+    }
+
+    private void requeue(Entry<K, V> entry) {
+        entry.queued = entry.accessed;
+        order.add(entry);
+    }
+
+}
@@ -0,0 +1,72 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+class MappedFileChannel implements ReadableByteChannel {
+
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+
+    private final long size;
+
+    private long windowStart;
+
+    private MappedByteBuffer window;
+
+    MappedFileChannel(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+    }
+
+    @Override
+    public int read(ByteBuffer destination) throws IOException {
+        if (window == null || !window.hasRemaining()) {
+            if (!nextWindow()) {
+                return -1;
+            }
+        }
+
+        int length = Math.min(destination.remaining(), window.remaining());
+
+        ByteBuffer slice = window.slice();
+        slice.limit(length);
+
+        destination.put(slice);
+        window.position(window.position() + length);
+
+        return length;
+    }
+
+    private boolean nextWindow() throws IOException {
+        if (window != null) {
+            windowStart += window.capacity();
+        }
+
+        if (windowStart >= size) {
+            return false;
+        }
+
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(WINDOW_SIZE, size - windowStart));
+
+        return true;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+}
@@ -0,0 +1,96 @@
+package rocks.cleancode.conventionalcommit;
+
+/**
+ * <p>Times of the phases of one parsing, reported to metrics once its result is known.</p>
+ *
+ * The parser marks the end of the header and footer phases while it scans the message. The clock is only read
+ * when the parsing is timed: a parsing which is only counted reports {@link ConventionalCommitMetrics#NOT_MEASURED}
+ * times, and {@link #NONE} reports nothing, so that parsers without metrics pay no more than a few branches.
+ */
+final class PhaseTimer {
+
+    /**
+     * Timer of parsers without metrics. Timers which are not timed are never modified, so they can be shared.
+     */
+    static final PhaseTimer NONE = new PhaseTimer(null, false);
+
+    private final ConventionalCommitMetrics metrics;
+
+    private final boolean timed;
+
+    private long start;
+
+    private long headerEnd;
+
+    private long footerEnd;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics Metrics listener, {@code null} to report nothing
+     * @param timed {@code true} if phases are timed, {@code false} if the parsing is only counted
+     */
+    PhaseTimer(ConventionalCommitMetrics metrics, boolean timed) {
+        this.metrics = metrics;
+        this.timed = timed;
+    }
+
+    void start() {
+        if (timed) {
+            start = System.nanoTime();
+        }
+    }
+
+    void headerScanned() {
+        if (timed) {
+            headerEnd = System.nanoTime();
+        }
+    }
+
+    void footerScanned() {
+        if (timed) {
+            footerEnd = System.nanoTime();
+        }
+    }
+
+    /**
+     * Report the parsing, the body phase ending now.
+     *
+     * @param length Length of the message
+     * @param result Result of the parsing
+     * @return Given result
+     */
+    ConventionalCommitParseResult report(int length, ConventionalCommitParseResult result) {
+        if (metrics == null) {
+            return result;
+        }
+
+        ConventionalCommitParseError error = result.nullableError();
+
+        if (!timed) {
+            if (error == null) {
+                metrics.parsed(
+                    length,
+                    ConventionalCommitMetrics.NOT_MEASURED,
+                    ConventionalCommitMetrics.NOT_MEASURED,
+                    ConventionalCommitMetrics.NOT_MEASURED
+                );
+            } else {
+                metrics.failed(length, error, ConventionalCommitMetrics.NOT_MEASURED);
+            }
+
+            return result;
+        }
+
+        long end = System.nanoTime();
+
+        if (error == null) {
+            metrics.parsed(length, headerEnd - start, footerEnd - headerEnd, end - footerEnd);
+        } else {
+            metrics.failed(length, error, headerEnd - start);
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,118 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * <p>UTF-8 encoded text, read without decoding.</p>
+ *
+ * Each byte is one character: ASCII bytes are returned as is, other bytes are mapped to distinct
+ * characters of the private use area. Syntax of conventional commits only relies on ASCII characters,
+ * so the message can be scanned on bytes, offsets being byte offsets. Sub-sequences are slices of the same
+ * bytes, with the same length in bytes, and text is only decoded by {@link #toString()}.
+ */
+final class Utf8CharSequence implements CharSequence {
+
+    private static final char NON_ASCII_BASE = '\uF700';
+
+    private final ByteBuffer bytes;
+
+    private final int offset;
+
+    private final int length;
+
+    Utf8CharSequence(ByteBuffer bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        byte value = bytes.get(offset + index);
+
+        if (value >= 0) {
+            return (char) value;
+        }
+
+        return (char) (NON_ASCII_BASE + (value & 0xFF));
+    }
+
+    /**
+     * Part of the text, without decoding.
+     *
+     * @param start Start offset, in bytes
+     * @param end End offset, in bytes
+     * @return Text of the bytes in the range
+     */
+    @Override
+    public Utf8CharSequence subSequence(int start, int end) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException(
+                "Range [" + start + ", " + end + ") is out of bounds of length " + length
+            );
+        }
+
+        return new Utf8CharSequence(bytes, offset + start, end - start);
+    }
+
+    boolean isAscii() {
+        for (int index = 0; index < length; index++) {
+            if (bytes.get(offset + index) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Indicator of non-ASCII line terminators ({@code U+0085}, {@code U+2028}, {@code U+2029}),
+     * which cannot be detected on bytes.
+     *
+     * @return {@code true} if text contains a non-ASCII line terminator, {@code false} otherwise
+     */
+    boolean hasUnicodeLineTerminator() {
+        for (int index = 0; index + 1 < length; index++) {
+            int value = bytes.get(offset + index) & 0xFF;
+            int next = bytes.get(offset + index + 1) & 0xFF;
+
+            if (value == 0xC2 && next == 0x85) {
+                return true;
+            }
+
+            if (value == 0xE2 && next == 0x80 && index + 2 < length) {
+                int last = bytes.get(offset + index + 2) & 0xFF;
+
+                if (last == 0xA8 || last == 0xA9) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Whole decoded text.
+     *
+     * @return Decoded string
+     */
+    @Override
+    public String toString() {
+        byte[] text = new byte[length];
+
+        ByteBuffer source = bytes.duplicate();
+        source.position(offset);
+        source.get(text);
+
+        return new String(text, UTF_8);
+    }
+
+}
@@ -0,0 +1,43 @@
+package rocks.cleancode.conventionalcommit;
+
+/**
+ * <p>Increment of a semantic version implied by conventional commits.</p>
+ *
+ * Constants are declared from the lowest to the highest increment, so they can be compared
+ * with {@link #compareTo(Enum)}.
+ *
+ * @see VersionBumpCalculator
+ *
+ * @since 1.3.0
+ */
+public enum VersionBump {
+
+    /**
+     * Version does not need to change.
+     *
+     * @since 1.3.0
+     */
+    NONE,
+
+    /**
+     * Patch version increment, for bug fixes.
+     *
+     * @since 1.3.0
+     */
+    PATCH,
+
+    /**
+     * Minor version increment, for new features.
+     *
+     * @since 1.3.0
+     */
+    MINOR,
+
+    /**
+     * Major version increment, for breaking changes.
+     *
+     * @since 1.3.0
+     */
+    MAJOR
+
+}
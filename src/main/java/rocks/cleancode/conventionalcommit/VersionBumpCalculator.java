@@ -0,0 +1,134 @@
+package rocks.cleancode.conventionalcommit;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * <p>Calculator of the semantic version increment implied by conventional commit messages.</p>
+ *
+ * A breaking change implies a {@link VersionBump#MAJOR major} increment, a {@code feat} commit a
+ * {@link VersionBump#MINOR minor} one and a {@code fix} commit a {@link VersionBump#PATCH patch} one;
+ * other types and messages which are not conventional commits do not change the version.
+ *
+ * Messages are not fully parsed: only the header and the footer are read, the footer being searched
+ * backwards from the end of the message. Reading stops at the first breaking change, since nothing
+ * can raise the increment beyond major. Calculators are immutable and can be shared between threads.
+ *
+ * @since 1.3.0
+ */
+public final class VersionBumpCalculator {
+
+    private static final String FEATURE_TYPE = "feat";
+
+    private static final String FIX_TYPE = "fix";
+
+    private final ConventionalCommitParser parser;
+
+    /**
+     * Default constructor, with {@link ConventionalCommitParser#RECOMMENDED_TYPES recommended types}.
+     *
+     * @since 1.3.0
+     */
+    public VersionBumpCalculator() {
+        this(new ConventionalCommitParser());
+    }
+
+    /**
+     * Constructor with the parser defining allowed types.
+     *
+     * @param parser Parser of conventional commit headers
+     *
+     * @since 1.3.0
+     */
+    public VersionBumpCalculator(ConventionalCommitParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Version increment implied by one message.
+     *
+     * @param fullCommitMessage Raw conventional commit message
+     * @return Version increment, {@link VersionBump#NONE} if message has not conventional commit format
+     *
+     * @since 1.3.0
+     */
+    public VersionBump bump(CharSequence fullCommitMessage) {
+        ConventionalCommitMessage message = parser.header(fullCommitMessage);
+
+        if (!parser.isValidHeader(fullCommitMessage, message)) {
+            return VersionBump.NONE;
+        }
+
+        if (message.exclamation() || parser.hasBreakingChangeFooter(fullCommitMessage)) {
+            return VersionBump.MAJOR;
+        }
+
+        if (FEATURE_TYPE.equals(message.type())) {
+            return VersionBump.MINOR;
+        }
+
+        if (FIX_TYPE.equals(message.type())) {
+            return VersionBump.PATCH;
+        }
+
+        return VersionBump.NONE;
+    }
+
+    /**
+     * Version increment implied by messages, stopping at the first breaking change.
+     *
+     * @param fullCommitMessages Raw conventional commit messages
+     * @return Highest version increment of the messages
+     *
+     * @since 1.3.0
+     */
+    public VersionBump calculate(Iterator<? extends CharSequence> fullCommitMessages) {
+        VersionBump bump = VersionBump.NONE;
+
+        while (bump != VersionBump.MAJOR && fullCommitMessages.hasNext()) {
+            bump = max(bump, bump(fullCommitMessages.next()));
+        }
+
+        return bump;
+    }
+
+    /**
+     * Version increment implied by messages, stopping at the first breaking change.
+     * Remaining messages of the stream are not consumed.
+     *
+     * @param fullCommitMessages Raw conventional commit messages
+     * @return Highest version increment of the messages
+     *
+     * @since 1.3.0
+     */
+    public VersionBump calculate(Stream<? extends CharSequence> fullCommitMessages) {
+        return calculate(fullCommitMessages.iterator());
+    }
+
+    /**
+     * Version increment implied by the messages of a reader, stopping at the first breaking change.
+     * Messages are read without being parsed by the parser of the reader.
+     *
+     * @param reader Reader of messages, left open
+     * @return Highest version increment of the messages
+     * @throws IOException If messages cannot be read
+     *
+     * @since 1.3.0
+     */
+    public VersionBump calculate(ConventionalCommitReader reader) throws IOException {
+        VersionBump bump = VersionBump.NONE;
+        CharSequence fullCommitMessage;
+
+        while (bump != VersionBump.MAJOR && (fullCommitMessage = reader.readMessage()) != null) {
+            bump = max(bump, bump(fullCommitMessage));
+        }
+
+        return bump;
+    }
+
+    private static VersionBump max(VersionBump first, VersionBump second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+
+}
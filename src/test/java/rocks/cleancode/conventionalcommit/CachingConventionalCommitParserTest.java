@@ -0,0 +1,110 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static rocks.cleancode.hamcrest.optional.ValueMatcher.value;
+
+class CachingConventionalCommitParserTest {
+
+    private final AtomicLong time = new AtomicLong();
+
+    @Test
+    public void should_return_same_conventional_commit_for_same_message() {
+        CachingConventionalCommitParser parser = new CachingConventionalCommitParser.Builder().build();
+
+        ConventionalCommit first = parser.parse("feat(parser): My feature\n\nRefs: #123");
+        ConventionalCommit second = parser.parse(new String("feat(parser): My feature\n\nRefs: #123".toCharArray()));
+
+        assertThat(second, is(sameInstance(first)));
+        assertThat(second, is(equalTo(new ConventionalCommitParser().parse("feat(parser): My feature\n\nRefs: #123"))));
+        assertThat(parser.statistics().hitCount(), is(1L));
+        assertThat(parser.statistics().missCount(), is(1L));
+    }
+
+    @Test
+    public void should_cache_failures() {
+        CachingConventionalCommitParser parser = new CachingConventionalCommitParser.Builder().build();
+
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("Merge branch 'main'"));
+        assertThat(
+            parser.tryParse("Merge branch 'main'").error(),
+            value(is(ConventionalCommitParseError.MALFORMED_HEADER))
+        );
+        assertThat(parser.statistics().hitCount(), is(1L));
+    }
+
+    @Test
+    public void should_use_given_parser() {
+        CachingConventionalCommitParser parser = new CachingConventionalCommitParser.Builder()
+            .parser(new ConventionalCommitParser("custom"))
+            .build();
+
+        assertThat(parser.parse("custom: My message").type(), is(equalTo("custom")));
+    }
+
+    @Test
+    public void should_evict_least_recently_used_message_when_size_is_exceeded() {
+        CachingConventionalCommitParser parser = new CachingConventionalCommitParser.Builder()
+            .maximumSize(2)
+            .build();
+
+        ConventionalCommit first = parser.parse("feat: First");
+        parser.parse("feat: Second");
+        parser.parse("feat: First");
+        parser.parse("feat: Third");
+
+        assertThat(parser.parse("feat: First"), is(sameInstance(first)));
+        assertThat(parser.statistics().evictionCount(), is(1L));
+        assertThat(parser.statistics().size(), is(2));
+    }
+
+    @Test
+    public void should_evict_messages_when_weight_is_exceeded() {
+        CachingConventionalCommitParser parser = new CachingConventionalCommitParser.Builder()
+            .maximumWeight(20)
+            .build();
+
+        ConventionalCommit first = parser.parse("feat: First");
+        parser.parse("feat: Second");
+
+        assertThat(parser.parse("feat: First"), is(not(sameInstance(first))));
+        assertThat(parser.statistics().evictionCount(), is(2L));
+    }
+
+    @Test
+    public void should_expire_messages_after_write() {
+        CachingConventionalCommitParser parser = new CachingConventionalCommitParser.Builder()
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .ticker(time::get)
+            .build();
+
+        ConventionalCommit first = parser.parse("feat: First");
+
+        time.addAndGet(Duration.ofSeconds(59).toNanos());
+
+        assertThat(parser.parse("feat: First"), is(sameInstance(first)));
+
+        time.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertThat(parser.parse("feat: First"), is(not(sameInstance(first))));
+        assertThat(parser.statistics().evictionCount(), is(1L));
+    }
+
+    @Test
+    public void should_throw_exception_when_maximum_size_is_not_positive() {
+        CachingConventionalCommitParser.Builder builder = new CachingConventionalCommitParser.Builder()
+            .maximumSize(0);
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+}
@@ -0,0 +1,62 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CanonicalStringsTest {
+
+    private final CanonicalStrings canonicalStrings = new CanonicalStrings(16, 8);
+
+    @Test
+    public void should_return_same_instance_for_equal_ranges() {
+        String first = canonicalStrings.canonical("Refs: #1", 0, 4);
+        String second = canonicalStrings.canonical("Refs: #2", 0, 4);
+
+        assertThat(first, is(equalTo("Refs")));
+        assertThat(second, is(sameInstance(first)));
+    }
+
+    @Test
+    public void should_not_store_long_strings() {
+        String first = canonicalStrings.canonical("Reviewed-by: Me", 0, 11);
+        String second = canonicalStrings.canonical("Reviewed-by: Me", 0, 11);
+
+        assertThat(second, is(equalTo(first)));
+        assertThat(second, is(not(sameInstance(first))));
+    }
+
+    @Test
+    public void should_not_store_non_ascii_strings() {
+        String first = canonicalStrings.canonical("caf\u00e9!", 0, 4);
+        String second = canonicalStrings.canonical("caf\u00e9!", 0, 4);
+
+        assertThat(second, is(equalTo("caf\u00e9")));
+        assertThat(second, is(not(sameInstance(first))));
+    }
+
+    @Test
+    public void should_replace_string_of_the_same_slot() {
+        // "Aa" and "BB" have the same hash code
+        String first = canonicalStrings.canonical("Aa!", 0, 2);
+        String second = canonicalStrings.canonical("BB!", 0, 2);
+
+        assertThat(second, is(equalTo("BB")));
+        assertThat(canonicalStrings.canonical("BB!", 0, 2), is(sameInstance(second)));
+        assertThat(canonicalStrings.canonical("Aa!", 0, 2), is(not(sameInstance(first))));
+    }
+
+    @Test
+    public void should_throw_exception_when_capacity_is_not_a_power_of_two() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new CanonicalStrings(10, 8)
+        );
+    }
+
+}
@@ -0,0 +1,127 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.StringEndsWith.endsWith;
+
+class ChangelogGeneratorTest {
+
+    private final ConventionalCommitParser parser = new ConventionalCommitParser();
+
+    private final List<ConventionalCommit> commits = Stream.of(
+        "feat(parser): Add header-only parsing",
+        "fix: Keep footer order",
+        "docs: Document parser",
+        "feat: Add changelog generator",
+        "feat(reader)!: Read archives",
+        "fix(parser): Parse duplicate footer keys",
+        "feat(parser): Add validator",
+        "refactor: Extract scanner\n\nBREAKING CHANGE: Scanner is package-private"
+    ).map(parser::parse).collect(toList());
+
+    @Test
+    public void should_generate_changelog_with_default_sections() {
+        String changelog = new ChangelogGenerator.Builder().build()
+            .generate("[1.3.0] - 2022-11-20", commits);
+
+        assertThat(changelog, is(equalTo("## [1.3.0] - 2022-11-20\n"
+            + "\n"
+            + "### Breaking changes\n"
+            + "\n"
+            + "- Extract scanner\n"
+            + "- **reader:** Read archives\n"
+            + "\n"
+            + "### Features\n"
+            + "\n"
+            + "- Add changelog generator\n"
+            + "- **parser:** Add header-only parsing\n"
+            + "- **parser:** Add validator\n"
+            + "\n"
+            + "### Fixes\n"
+            + "\n"
+            + "- Keep footer order\n"
+            + "- **parser:** Parse duplicate footer keys\n")));
+    }
+
+    @Test
+    public void should_generate_custom_sections() throws IOException {
+        ChangelogGenerator generator = new ChangelogGenerator.Builder()
+            .section("Documentation", "docs")
+            .section("Other", "refactor", "fix")
+            .build();
+        StringWriter changelog = new StringWriter();
+
+        generator.write("[Unreleased]", commits.stream(), changelog);
+
+        assertThat(changelog.toString(), is(equalTo("## [Unreleased]\n"
+            + "\n"
+            + "### Documentation\n"
+            + "\n"
+            + "- Document parser\n"
+            + "\n"
+            + "### Other\n"
+            + "\n"
+            + "- Keep footer order\n"
+            + "- Extract scanner\n"
+            + "- **parser:** Parse duplicate footer keys\n")));
+    }
+
+    @Test
+    public void should_only_write_title_without_matching_commits() {
+        String changelog = new ChangelogGenerator.Builder().build()
+            .generate("[1.3.0]", asList(parser.parse("docs: Document parser")));
+
+        assertThat(changelog, is(equalTo("## [1.3.0]\n")));
+    }
+
+    @Test
+    public void should_group_equal_types_and_scopes_of_different_instances() {
+        ChangelogGenerator generator = new ChangelogGenerator.Builder()
+            .section("Documentation", new String("docs"))
+            .build();
+
+        String changelog = generator.generate("[1.3.0]", asList(
+            ConventionalCommit.of("docs", new String("api"), false, "First", null, ConventionalCommitFooter.EMPTY),
+            ConventionalCommit.of("docs", "guide", false, "Second", null, ConventionalCommitFooter.EMPTY),
+            ConventionalCommit.of(new String("docs"), "api", false, "Third", null, ConventionalCommitFooter.EMPTY)
+        ));
+
+        assertThat(changelog, is(equalTo("## [1.3.0]\n"
+            + "\n"
+            + "### Documentation\n"
+            + "\n"
+            + "- **api:** First\n"
+            + "- **api:** Third\n"
+            + "- **guide:** Second\n")));
+    }
+
+    @Test
+    public void should_generate_changelog_of_many_commits() {
+        List<ConventionalCommit> manyCommits = IntStream.range(0, 50_000)
+            .mapToObj(index -> ConventionalCommit.of(
+                index % 2 == 0 ? "feat" : "fix",
+                "scope" + (index % 10),
+                false,
+                "Change " + index,
+                null,
+                ConventionalCommitFooter.EMPTY
+            ))
+            .collect(toList());
+
+        String changelog = new ChangelogGenerator.Builder().build().generate("[2.0.0]", manyCommits);
+
+        assertThat(changelog, endsWith("- **scope9:** Change 49999\n"));
+    }
+
+}
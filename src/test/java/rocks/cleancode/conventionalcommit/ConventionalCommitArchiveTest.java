@@ -0,0 +1,106 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+class ConventionalCommitArchiveTest {
+
+    private static final List<String> MESSAGES = Stream.of(
+        "feat: My new feature",
+        "fix(café)!: Fix déjà vu\n\nLong bödy\n\nReviewed-by: Jürgen\nRefs: #123",
+        "Merge branch 'main'",
+        "feat:  ",
+        "ci: Line\u2028separator",
+        "fonctionnalité: Type non ASCII"
+    ).collect(toList());
+
+    private final ConventionalCommitParser parser = new ConventionalCommitParser("feat", "fix", "ci", "fonctionnalité");
+
+    @Test
+    public void should_parse_archive_like_parser(@TempDir Path directory) throws IOException {
+        Path file = write(directory, MESSAGES);
+
+        try (ConventionalCommitArchive archive = ConventionalCommitArchive.open(parser, file)) {
+            assertParsedLikeParser(archive.stream().collect(toList()), MESSAGES);
+        }
+    }
+
+    @Test
+    public void should_parse_archive_segments_in_order(@TempDir Path directory) throws IOException {
+        List<String> messages = IntStream.range(0, 2_000)
+            .mapToObj(index -> MESSAGES.get(index % MESSAGES.size()) + "\n\nCommit " + index)
+            .collect(toList());
+
+        Path file = write(directory, messages);
+
+        try (ConventionalCommitArchive archive =
+                 ConventionalCommitArchive.open(parser, file, ConventionalCommitArchive.DEFAULT_DELIMITER, 1_000)) {
+            assertParsedLikeParser(archive.stream().collect(toList()), messages);
+        }
+    }
+
+    @Test
+    public void should_count_limits_and_offsets_in_characters(@TempDir Path directory) throws IOException {
+        ConventionalCommitParser limitedParser = parser.withLimits(
+            new ConventionalCommitLimits.Builder().maxMessageLength(24).maxHeaderLength(20).build()
+        );
+        List<String> messages = Stream.of(
+            "fix: déjà vu à ça ùé",
+            "fix: déjà vu à ça ùéè",
+            "fix: déjà\n\nà ça ùé",
+            "fix: déjà\n\nà ça ùéèàùçé",
+            "fix(café):déjà"
+        ).collect(toList());
+        Path file = write(directory, messages);
+
+        try (ConventionalCommitArchive archive = ConventionalCommitArchive.open(limitedParser, file)) {
+            List<ConventionalCommitParseResult> results = archive.stream().collect(toList());
+
+            assertParsedLikeParser(limitedParser, results, messages);
+        }
+    }
+
+    private Path write(Path directory, List<String> messages) throws IOException {
+        Path file = directory.resolve("archive");
+
+        Files.write(file, messages.stream().collect(joining("\n\u0000\n", "", "\n\u0000\n")).getBytes(UTF_8));
+
+        return file;
+    }
+
+    private void assertParsedLikeParser(List<ConventionalCommitParseResult> results, List<String> messages) {
+        assertParsedLikeParser(parser, results, messages);
+    }
+
+    private static void assertParsedLikeParser(
+        ConventionalCommitParser parser,
+        List<ConventionalCommitParseResult> results,
+        List<String> messages
+    ) {
+        assertThat(results.size(), is(messages.size()));
+
+        for (int index = 0; index < messages.size(); index++) {
+            ConventionalCommitParseResult expected = parser.tryParse(messages.get(index).trim());
+            ConventionalCommitParseResult result = results.get(index);
+
+            assertThat(result.commit(), is(equalTo(expected.commit())));
+            assertThat(result.error(), is(equalTo(expected.error())));
+            assertThat(result.errorOffset(), is(expected.errorOffset()));
+        }
+    }
+
+}
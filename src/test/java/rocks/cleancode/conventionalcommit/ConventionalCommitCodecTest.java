@@ -0,0 +1,262 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConventionalCommitCodecTest {
+
+    private ConventionalCommitParser parser;
+
+    private ConventionalCommitCodec codec;
+
+    @BeforeEach
+    public void setUp() {
+        parser = new ConventionalCommitParser();
+        codec = new ConventionalCommitCodec();
+    }
+
+    @ParameterizedTest
+    @MethodSource("rocks.cleancode.conventionalcommit.ConventionalCommitTestCase#testCases")
+    public void should_read_written_commit(ConventionalCommitTestCase testCase) throws IOException {
+        ConventionalCommit commit = parser.parse(testCase.message());
+
+        ConventionalCommit read = codec.read(input(write(codec, commit)));
+
+        assertThat(read, is(equalTo(commit)));
+        assertThat(read.footerEntries(), is(equalTo(commit.footerEntries())));
+    }
+
+    @Test
+    public void should_write_type_of_type_table_as_id() throws IOException {
+        ConventionalCommit commit = parser.parse("feat: A");
+
+        assertThat(write(codec, commit).length, is(4));
+    }
+
+    @Test
+    public void should_read_commit_of_type_not_in_type_table() throws IOException {
+        ConventionalCommitCodec featOnly = new ConventionalCommitCodec(Arrays.asList("feat"));
+        ConventionalCommit commit = parser.parse("fix(parser)!: Ignore trailing spaces\n\nBody\n\nRefs: #123");
+
+        assertThat(featOnly.read(input(write(featOnly, commit))), is(equalTo(commit)));
+    }
+
+    @Test
+    public void should_read_non_ascii_strings() throws IOException {
+        ConventionalCommit commit = parser.parse("feat(d\u00e9p\u00f4t): Caf\u00e9\n\nCorps\n\nRevu-par: Ren\u00e9e");
+
+        assertThat(codec.read(input(write(codec, commit))), is(equalTo(commit)));
+    }
+
+    @Test
+    public void should_share_footer_keys_with_parsed_commits() throws IOException {
+        ConventionalCommit commit = parser.parse("feat: A\n\nReviewed-by: John DOE");
+
+        ConventionalCommit read = codec.read(input(write(codec, commit)));
+
+        assertThat(read.footerEntries().key(0), is(sameInstance(commit.footerEntries().key(0))));
+    }
+
+    @Test
+    public void should_read_all_written_commits(@TempDir Path directory) throws IOException {
+        List<ConventionalCommit> commits = ConventionalCommitTestCase.testCases()
+            .map(testCase -> parser.parse(testCase.message()))
+            .collect(toList());
+        Path file = directory.resolve("commits.bin");
+
+        codec.writeAll(commits, file);
+
+        assertThat(new ConventionalCommitCodec(Arrays.asList("docs")).readAll(file), is(equalTo(commits)));
+    }
+
+    @Test
+    public void should_stream_written_commits(@TempDir Path directory) throws IOException {
+        List<ConventionalCommit> commits = ConventionalCommitTestCase.testCases()
+            .map(testCase -> parser.parse(testCase.message()))
+            .collect(toList());
+        Path file = directory.resolve("commits.bin");
+
+        codec.writeAll(commits, file);
+
+        try (Stream<ConventionalCommit> stream = codec.stream(file)) {
+            assertThat(stream.collect(toList()), is(equalTo(commits)));
+        }
+    }
+
+    @Test
+    public void should_reject_file_of_other_format(@TempDir Path directory) throws IOException {
+        Path file = Files.write(directory.resolve("commits.txt"), "feat: A".getBytes());
+
+        assertThrows(IOException.class, () -> codec.readAll(file));
+    }
+
+    @Test
+    public void should_reject_file_of_newer_version(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("commits.bin");
+
+        codec.writeAll(Arrays.asList(parser.parse("feat: A")), file);
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[4] = (byte) (ConventionalCommitCodec.VERSION + 1);
+        Files.write(file, bytes);
+
+        assertThrows(IOException.class, () -> codec.readAll(file));
+    }
+
+    @Test
+    public void should_reject_file_of_older_version(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("commits.bin");
+
+        codec.writeAll(Arrays.asList(parser.parse("feat: A")), file);
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[4] = 0;
+        Files.write(file, bytes);
+
+        assertThrows(IOException.class, () -> codec.readAll(file));
+    }
+
+    @Test
+    public void should_reject_unknown_type_id() {
+        byte[] negativeId = { 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F, 1, 'A' };
+        byte[] idOverTable = { 0, 100, 1, 'A' };
+
+        assertThrows(IOException.class, () -> codec.read(input(negativeId)));
+        assertThrows(IOException.class, () -> codec.read(input(idOverTable)));
+    }
+
+    @Test
+    public void should_reject_unknown_flags() {
+        byte[] bytes = { 16, 1, 1, 'A' };
+
+        assertThrows(IOException.class, () -> codec.read(input(bytes)));
+    }
+
+    @Test
+    public void should_reject_blank_type_or_description() {
+        byte[] emptyType = { 0, 0, 0, 1, 'A' };
+        byte[] blankType = { 0, 0, 1, ' ', 1, 'A' };
+        byte[] emptyDescription = { 0, 1, 0 };
+        byte[] blankDescription = { 0, 1, 2, ' ', '\t' };
+
+        assertThrows(IOException.class, () -> codec.read(input(emptyType)));
+        assertThrows(IOException.class, () -> codec.read(input(blankType)));
+        assertThrows(IOException.class, () -> codec.read(input(emptyDescription)));
+        assertThrows(IOException.class, () -> codec.read(input(blankDescription)));
+    }
+
+    @Test
+    public void should_reject_negative_footer_count() {
+        byte[] bytes = { 8, 1, 1, 'A', (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F };
+
+        assertThrows(IOException.class, () -> codec.read(input(bytes)));
+    }
+
+    @Test
+    public void should_reject_lengths_and_counts_over_input_without_allocating_them() {
+        byte[] hugeString = { 0, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'A' };
+        byte[] hugeFooter = { 8, 1, 1, 'A', (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 1, 'K', 1, 'V' };
+
+        assertThrows(IOException.class, () -> codec.read(input(hugeString)));
+        assertThrows(IOException.class, () -> codec.read(input(hugeFooter)));
+    }
+
+    @Test
+    public void should_read_commits_or_throw_io_exception_when_file_is_truncated(@TempDir Path directory)
+        throws IOException {
+        List<ConventionalCommit> commits = ConventionalCommitTestCase.testCases()
+            .map(testCase -> parser.parse(testCase.message()))
+            .collect(toList());
+        Path file = directory.resolve("commits.bin");
+
+        codec.writeAll(commits, file);
+
+        byte[] bytes = Files.readAllBytes(file);
+        Path truncated = directory.resolve("truncated.bin");
+
+        for (int length = 0; length < bytes.length; length++) {
+            Files.write(truncated, Arrays.copyOf(bytes, length));
+
+            try {
+                List<ConventionalCommit> read = codec.readAll(truncated);
+
+                assertThat(read, is(equalTo(commits.subList(0, read.size()))));
+            } catch (IOException e) {
+                // Expected unless the file is truncated between two commits
+            }
+        }
+    }
+
+    @Test
+    public void should_only_throw_io_exception_when_input_is_garbage(@TempDir Path directory) throws IOException {
+        Random random = new Random(42);
+        Path file = directory.resolve("commits.bin");
+
+        codec.writeAll(Arrays.asList(parser.parse("feat: A")), file);
+
+        byte[] header = Arrays.copyOf(Files.readAllBytes(file), 6);
+
+        for (int attempt = 0; attempt < 1_000; attempt++) {
+            byte[] garbage = new byte[random.nextInt(64)];
+            random.nextBytes(garbage);
+
+            // Known flags and short strings most of the time, so that records are mostly decoded
+            if (garbage.length > 2 && attempt % 2 == 0) {
+                garbage[0] &= 0x0F;
+                garbage[1] = 0;
+                garbage[2] &= 0x03;
+            }
+
+            try {
+                codec.read(input(garbage));
+            } catch (IOException e) {
+                // Expected for most garbage
+            }
+
+            byte[] bytes = Arrays.copyOf(header, header.length + garbage.length);
+            System.arraycopy(garbage, 0, bytes, header.length, garbage.length);
+            Files.write(file, bytes);
+
+            try {
+                codec.readAll(file);
+            } catch (IOException e) {
+                // Expected for most garbage
+            }
+        }
+    }
+
+    private static byte[] write(ConventionalCommitCodec codec, ConventionalCommit commit) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        codec.write(commit, new DataOutputStream(bytes));
+
+        return bytes.toByteArray();
+    }
+
+    private static DataInputStream input(byte[] bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+
+}
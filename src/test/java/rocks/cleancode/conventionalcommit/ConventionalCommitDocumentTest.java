@@ -0,0 +1,157 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static rocks.cleancode.hamcrest.optional.ValueMatcher.value;
+
+class ConventionalCommitDocumentTest {
+
+    private static final String[] FRAGMENTS = {
+        "feat", "fix", "(", ")", "!", ":", ": ", " ", "\n", "\r\n", "\n\n", "scope", "description",
+        "Refs: #123", "BREAKING CHANGE: API changed", "Reviewed-by: John DOE", "Body text", "x"
+    };
+
+    private ConventionalCommitParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        parser = new ConventionalCommitParser();
+    }
+
+    @Test
+    public void should_parse_opened_message() {
+        ConventionalCommitDocument document = parser.open("feat(scope): My new feature\n\nBody\n\nRefs: #123");
+
+        assertSameResultAsFullParsing(document);
+    }
+
+    @Test
+    public void should_apply_edit_to_text() {
+        ConventionalCommitDocument document = parser.open("feat: My new feature")
+            .edit(6, 2, "A");
+
+        assertThat(document.text(), is(equalTo("feat: A new feature")));
+        assertThat(document.result().commit().map(ConventionalCommit::description), value(is(equalTo("A new feature"))));
+    }
+
+    @Test
+    public void should_not_scan_header_nor_footer_when_body_is_edited() {
+        ConventionalCommitDocument document = parser.open("feat: My new feature\n\nBody\n\nRefs: #123")
+            .edit(24, 0, "dy bo");
+
+        assertThat(document.headerScanned(), is(false));
+        assertThat(document.footerScanned(), is(false));
+        assertThat(document.result().commit().flatMap(ConventionalCommit::body), value(is(equalTo("Body body"))));
+    }
+
+    @Test
+    public void should_only_scan_header_when_first_line_is_edited() {
+        ConventionalCommitDocument document = parser.open("feat: My new feature\n\nBody\n\nRefs: #123")
+            .edit(0, 4, "fix");
+
+        assertThat(document.headerScanned(), is(true));
+        assertThat(document.footerScanned(), is(false));
+        assertThat(document.result().commit().map(ConventionalCommit::type), value(is(equalTo("fix"))));
+    }
+
+    @Test
+    public void should_only_scan_footer_when_end_is_edited() {
+        ConventionalCommitDocument document = parser.open("feat: My new feature\n\nBody\n\nRefs: #123")
+            .edit(37, 0, "\nReviewed-by: John DOE");
+
+        assertThat(document.headerScanned(), is(false));
+        assertThat(document.footerScanned(), is(true));
+        assertSameResultAsFullParsing(document);
+    }
+
+    @Test
+    public void should_report_header_error_after_edit() {
+        ConventionalCommitDocument document = parser.open("feat: My new feature")
+            .edit(4, 1, "");
+
+        assertThat(document.result().error(), value(is(ConventionalCommitParseError.MALFORMED_HEADER)));
+        assertThat(document.result().errorOffset(), is(4));
+    }
+
+    @Test
+    public void should_throw_exception_when_edit_is_out_of_bounds() {
+        ConventionalCommitDocument document = parser.open("feat: My new feature");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> document.edit(15, 10, ""));
+        assertThrows(IndexOutOfBoundsException.class, () -> document.edit(-1, 0, ""));
+    }
+
+    @Test
+    public void should_give_same_result_as_full_parsing_after_random_edits() {
+        Random random = new Random(42);
+
+        for (int message = 0; message < 200; message++) {
+            ConventionalCommitDocument document = parser.open("feat: " + randomText(random, 8));
+
+            for (int edit = 0; edit < 50; edit++) {
+                int offset = random.nextInt(document.text().length() + 1);
+                int removedLength = random.nextInt(Math.min(4, document.text().length() - offset) + 1);
+
+                document = document.edit(offset, removedLength, randomText(random, 2));
+
+                assertSameResultAsFullParsing(document);
+            }
+        }
+    }
+
+    @Test
+    public void should_edit_large_message_in_less_than_one_millisecond() {
+        StringBuilder message = new StringBuilder("feat: My new feature\n\n");
+
+        for (int line = 0; line < 10_000; line++) {
+            message.append("Body line ").append(line).append('\n');
+        }
+
+        message.append("\nRefs: #123");
+
+        ConventionalCommitDocument document = parser.open(message.toString());
+
+        for (int warmUp = 0; warmUp < 1_000; warmUp++) {
+            document = document.edit(100, 1, "x");
+        }
+
+        ConventionalCommitDocument edited = document;
+
+        assertTimeout(Duration.ofMillis(100), () -> {
+            ConventionalCommitDocument current = edited;
+
+            for (int edit = 0; edit < 100; edit++) {
+                current = current.edit(100 + edit, 0, "y");
+            }
+        });
+    }
+
+    private void assertSameResultAsFullParsing(ConventionalCommitDocument document) {
+        ConventionalCommitParseResult expected = parser.tryParse(document.text());
+
+        assertThat(document.text(), document.result().commit(), is(equalTo(expected.commit())));
+        assertThat(document.text(), document.result().error(), is(equalTo(expected.error())));
+        assertThat(document.text(), document.result().errorOffset(), is(expected.errorOffset()));
+    }
+
+    private static String randomText(Random random, int maxFragments) {
+        StringBuilder text = new StringBuilder();
+        int fragments = random.nextInt(maxFragments + 1);
+
+        for (int fragment = 0; fragment < fragments; fragment++) {
+            text.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+
+        return text.toString();
+    }
+
+}
@@ -0,0 +1,136 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+class ConventionalCommitFooterScannerTest {
+
+    private static final Pattern REFERENCE_PATTERN =
+        Pattern.compile("((?:\\r?\\n){2}((?:[^ :]+|BREAKING CHANGE): .+(?:\\r?\\n(?:[^ :]+|BREAKING CHANGE): .+)*))$");
+
+    private static final String[] LINES = {
+        "", "", "Refs: #123", "Reviewed-by: John DOE", "BREAKING CHANGE: API changed",
+        "Some body text", "Body: with colon", "Key:no-space", "Key: ", "Other: value\r"
+    };
+
+    @ParameterizedTest
+    @MethodSource("rocks.cleancode.conventionalcommit.ConventionalCommitTestCase#testCases")
+    public void should_parse_test_cases(ConventionalCommitTestCase testCase) {
+        ConventionalCommitFooter footer = footer(testCase.message());
+
+        assertThat(footer.asMap(), is(equalTo(testCase.expected().footer())));
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomMessages")
+    public void should_parse_like_regular_expression(String message) {
+        ConventionalCommitFooterScanner scanner = new ConventionalCommitFooterScanner(message, Integer.MAX_VALUE);
+        ConventionalCommitFooter footer = ConventionalCommitFooterScanner.footer(message, scanner.entries(), 0);
+
+        Matcher reference = REFERENCE_PATTERN.matcher(message);
+
+        if (reference.find()) {
+            assertThat("Start", scanner.start(), is(reference.start(1)));
+            assertThat("Footer", entries(footer), is(equalTo(referenceFooter(reference.group(2)))));
+        } else {
+            assertThat("Start", scanner.start(), is(message.length()));
+            assertThat("Footer", footer.asMap(), is(aMapWithSize(0)));
+        }
+    }
+
+    @Test
+    public void should_find_footer_in_linear_time() {
+        StringBuilder message = new StringBuilder("feat: My new feature");
+
+        for (int index = 0; index < 50_000; index++) {
+            message.append("\n\nParagraph ").append(index);
+        }
+
+        message.append("\n\nRefs: #123");
+
+        assertTimeout(
+            Duration.ofSeconds(1),
+            () -> new ConventionalCommitFooterScanner(message.toString(), Integer.MAX_VALUE).entries()
+        );
+    }
+
+    private static ConventionalCommitFooter footer(String message) {
+        ConventionalCommitFooterScanner scanner = new ConventionalCommitFooterScanner(message, Integer.MAX_VALUE);
+
+        return ConventionalCommitFooterScanner.footer(message, scanner.entries(), 0);
+    }
+
+    private static List<Map.Entry<String, String>> entries(ConventionalCommitFooter footer) {
+        List<Map.Entry<String, String>> entries = new ArrayList<>();
+
+        footer.forEach(entries::add);
+
+        return entries;
+    }
+
+    private static List<Map.Entry<String, String>> referenceFooter(String rawFooter) {
+        return Arrays.stream(rawFooter.split("\\r?\\n"))
+            .map(line -> line.split(": ", 2))
+            .map(array -> new AbstractMap.SimpleImmutableEntry<>(array[0], array[1]))
+            .collect(toList());
+    }
+
+    private static Stream<String> randomMessages() {
+        Random random = new Random(42);
+
+        return Stream.generate(() -> randomMessage(random))
+            .filter(ConventionalCommitFooterScannerTest::isSupportedByRegularExpression)
+            .limit(1_000);
+    }
+
+    private static String randomMessage(Random random) {
+        StringBuilder message = new StringBuilder("feat: My new feature");
+
+        int lines = random.nextInt(8);
+
+        for (int index = 0; index < lines; index++) {
+            message.append(random.nextBoolean() ? "\n" : "\r\n")
+                .append(LINES[random.nextInt(LINES.length)]);
+        }
+
+        if (random.nextInt(4) == 0) {
+            message.append("\n");
+        }
+
+        return message.toString();
+    }
+
+    /*
+     * Regular expression key "[^ :]+" also matches line breaks, so keys might span several lines:
+     * such messages cannot be split in entries, they are not compared.
+     */
+    private static boolean isSupportedByRegularExpression(String message) {
+        Matcher reference = REFERENCE_PATTERN.matcher(message);
+
+        try {
+            return !reference.find() || referenceFooter(reference.group(2)) != null;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+}
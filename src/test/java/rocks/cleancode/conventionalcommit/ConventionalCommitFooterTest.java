@@ -0,0 +1,119 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static rocks.cleancode.hamcrest.optional.ValueMatcher.value;
+
+class ConventionalCommitFooterTest {
+
+    private final ConventionalCommitFooter footer = ConventionalCommitFooter.of(
+        asList("Co-authored-by", "Refs", "Co-authored-by"),
+        asList("Jane", "#123", "John")
+    );
+
+    @Test
+    public void should_keep_entries_in_order() {
+        List<Map.Entry<String, String>> entries = new ArrayList<>();
+
+        footer.forEach(entries::add);
+
+        assertThat(footer.size(), is(3));
+        assertThat(entries, contains(
+            new AbstractMap.SimpleImmutableEntry<>("Co-authored-by", "Jane"),
+            new AbstractMap.SimpleImmutableEntry<>("Refs", "#123"),
+            new AbstractMap.SimpleImmutableEntry<>("Co-authored-by", "John")
+        ));
+        assertThat(footer.key(2), is(equalTo("Co-authored-by")));
+        assertThat(footer.value(2), is(equalTo("John")));
+    }
+
+    @Test
+    public void should_get_first_value_of_key() {
+        assertThat(footer.get("Co-authored-by"), value(is(equalTo("Jane"))));
+        assertThat(footer.get("Reviewed-by").isPresent(), is(false));
+        assertThat(footer.containsKey("Refs"), is(true));
+    }
+
+    @Test
+    public void should_get_all_values_of_key() {
+        assertThat(footer.getAll("Co-authored-by"), contains("Jane", "John"));
+        assertThat(footer.getAll("Reviewed-by"), is(empty()));
+    }
+
+    @Test
+    public void should_expose_unmodifiable_map_view_with_first_values() {
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("Co-authored-by", "Jane");
+        expected.put("Refs", "#123");
+
+        Map<String, String> map = footer.asMap();
+
+        assertThat(map, is(equalTo(expected)));
+        assertThat(map.keySet(), contains("Co-authored-by", "Refs"));
+        assertThrows(UnsupportedOperationException.class, () -> map.put("Refs", "#456"));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove("Refs"));
+    }
+
+    @Test
+    public void should_be_equal_when_entries_are_equal_in_same_order() {
+        ConventionalCommitFooter other = ConventionalCommitFooter.of(
+            asList("Co-authored-by", "Refs", "Co-authored-by"),
+            asList("Jane", "#123", "John")
+        );
+        ConventionalCommitFooter reversed = ConventionalCommitFooter.of(
+            asList("Co-authored-by", "Refs", "Co-authored-by"),
+            asList("John", "#123", "Jane")
+        );
+
+        assertThat(footer, is(equalTo(other)));
+        assertThat(footer.hashCode(), is(other.hashCode()));
+        assertThat(footer, is(not(equalTo(reversed))));
+    }
+
+    @Test
+    public void should_expose_map_view_of_many_entries() {
+        List<String> keys = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+
+        for (int index = 0; index < 1_000; index++) {
+            keys.add("Key-" + index % 100);
+            values.add("Value " + index);
+        }
+
+        Map<String, String> map = ConventionalCommitFooter.of(keys, values).asMap();
+
+        assertThat(map.size(), is(100));
+        assertThat(map.entrySet().size(), is(100));
+        assertThat(map.get("Key-42"), is(equalTo("Value 42")));
+        assertThat(new ArrayList<>(map.keySet()), is(equalTo(keys.subList(0, 100))));
+    }
+
+    @Test
+    public void should_write_entries_one_per_line() {
+        assertThat(footer.toString(), is(equalTo(format("Co-authored-by: Jane%nRefs: #123%nCo-authored-by: John"))));
+    }
+
+    @Test
+    public void should_write_entries_as_in_message() {
+        ConventionalCommit commit = new ConventionalCommitParser()
+            .parse("feat: My new feature\n\nCo-authored-by: Jane\nRefs: #123\nCo-authored-by: John");
+
+        assertThat(commit.toString().endsWith(commit.footerEntries().toString()), is(true));
+    }
+
+}
@@ -0,0 +1,156 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static java.lang.String.format;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.number.OrderingComparison.lessThanOrEqualTo;
+
+class ConventionalCommitFootprintTest {
+
+    private static final int COMMITS = 10_000;
+
+    private static final String[] SCOPES = {
+        "parser", "reader", "archive", "view", "build", "deps", "docs", "api", "core", "cli"
+    };
+
+    private static final String[] REVIEWERS = { "Jane DOE", "John DOE", "Alice", "Bob" };
+
+    private final ConventionalCommitParser parser = new ConventionalCommitParser();
+
+    @Test
+    public void should_retain_at_most_half_of_the_memory_of_copied_strings() {
+        List<String> messages = realisticMessages();
+
+        List<ConventionalCommit> parsed = new ArrayList<>();
+        List<Object> copied = new ArrayList<>();
+
+        for (String message : messages) {
+            ConventionalCommit conventionalCommit = parser.parse(message);
+
+            parsed.add(conventionalCommit);
+            copied.add(copy(conventionalCommit));
+        }
+
+        long parsedSize = GraphLayout.parseInstance(parsed).totalSize();
+        long copiedSize = GraphLayout.parseInstance(copied).totalSize();
+
+        System.out.printf(
+            "Retained size per commit: %d bytes with canonical strings, %d bytes with copies%n",
+            parsedSize / COMMITS,
+            copiedSize / COMMITS
+        );
+
+        assertThat(parsedSize * 2, lessThanOrEqualTo(copiedSize));
+    }
+
+    /**
+     * Copy each string, and footer in an unmodifiable hash map, as parser and conventional commit did
+     * before canonicalization.
+     */
+    private static Object copy(ConventionalCommit conventionalCommit) {
+        Map<String, String> footer = new HashMap<>();
+
+        conventionalCommit.footer().forEach((key, value) -> footer.put(copy(key), copy(value)));
+
+        return new CopiedConventionalCommit(
+            copy(conventionalCommit.type()),
+            conventionalCommit.scope().map(ConventionalCommitFootprintTest::copy).orElse(null),
+            conventionalCommit.exclamation(),
+            copy(conventionalCommit.description()),
+            conventionalCommit.body().map(ConventionalCommitFootprintTest::copy).orElse(""),
+            Collections.unmodifiableMap(footer)
+        );
+    }
+
+    private static String copy(String value) {
+        // String(String) would share the characters of the given string
+        return new String(value.toCharArray());
+    }
+
+    private static List<String> realisticMessages() {
+        Random random = new Random(42);
+        List<String> messages = new ArrayList<>();
+
+        for (int index = 0; index < COMMITS; index++) {
+            StringBuilder message = new StringBuilder()
+                .append(ConventionalCommitParser.RECOMMENDED_TYPES.get(random.nextInt(10)));
+
+            if (random.nextInt(3) > 0) {
+                message.append('(').append(SCOPES[random.nextInt(SCOPES.length)]).append(')');
+            }
+
+            message.append(": ").append(format("Change number %d", index));
+
+            if (random.nextInt(4) == 0) {
+                message.append("\n\n").append(format("More details about change %d", index));
+            }
+
+            List<String> footer = new ArrayList<>();
+
+            if (random.nextBoolean()) {
+                footer.add(format("Refs: #%d", random.nextInt(1_000)));
+            }
+
+            if (random.nextBoolean()) {
+                footer.add(format("Reviewed-by: %s", REVIEWERS[random.nextInt(REVIEWERS.length)]));
+            }
+
+            if (random.nextInt(20) == 0) {
+                footer.add("BREAKING CHANGE: Behaviour has changed");
+            }
+
+            if (!footer.isEmpty()) {
+                message.append("\n\n").append(String.join("\n", footer));
+            }
+
+            messages.add(message.toString());
+        }
+
+        return messages;
+    }
+
+    /**
+     * Fields of conventional commit before canonicalization.
+     */
+    private static class CopiedConventionalCommit {
+
+        private final String type;
+
+        private final String scope;
+
+        private final boolean exclamation;
+
+        private final String description;
+
+        private final String body;
+
+        private final Map<String, String> footer;
+
+        private CopiedConventionalCommit(
+            String type,
+            String scope,
+            boolean exclamation,
+            String description,
+            String body,
+            Map<String, String> footer
+        ) {
+            this.type = type;
+            this.scope = scope;
+            this.exclamation = exclamation;
+            this.description = description;
+            this.body = body;
+            this.footer = footer;
+        }
+
+    }
+
+}
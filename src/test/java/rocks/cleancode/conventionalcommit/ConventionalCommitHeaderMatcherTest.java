@@ -0,0 +1,108 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+
+class ConventionalCommitHeaderMatcherTest {
+
+    private static final List<String> TYPES = asList("feat", "feat-ui", "fix", "f");
+
+    private static final Pattern REFERENCE_PATTERN =
+        Pattern.compile("^((feat|feat-ui|fix|f)(?:\\((.+)\\))?(!)?: (.+))");
+
+    private static final String[] TOKENS = {
+        "feat", "-ui", "fix", "(", ")", "(a)", "!", ":", " ", ": ", "a", "\n", "\r\n"
+    };
+
+    private final ConventionalCommitHeaderMatcher matcher = new ConventionalCommitHeaderMatcher(TYPES);
+
+    @ParameterizedTest
+    @MethodSource("rocks.cleancode.conventionalcommit.ConventionalCommitTestCase#testCases")
+    public void should_match_test_cases(ConventionalCommitTestCase testCase) {
+        ConventionalCommitMessage message =
+            new ConventionalCommitHeaderMatcher(ConventionalCommitParser.RECOMMENDED_TYPES).find(testCase.message());
+
+        assertThat("Type", message.type(), is(equalTo(testCase.expected().type())));
+        assertThat("Scope", message.scope(), is(equalTo(testCase.expected().scope())));
+        assertThat("Exclamation", message.exclamation(), is(testCase.expected().exclamation()));
+        assertThat("Description", message.description(), is(equalTo(testCase.expected().description())));
+    }
+
+    @Test
+    public void should_use_greedy_scope() {
+        ConventionalCommitMessage message = matcher.find("feat(first): second (third): description");
+
+        assertThat(message.scope(), is(equalTo("first): second (third")));
+        assertThat(message.description(), is(equalTo("description")));
+    }
+
+    @Test
+    public void should_fall_back_to_shorter_type() {
+        ConventionalCommitHeaderMatcher matcher = new ConventionalCommitHeaderMatcher(asList("feat", "feat(ui"));
+
+        ConventionalCommitMessage message = matcher.find("feat(ui): description");
+
+        assertThat(message.type(), is(equalTo("feat")));
+        assertThat(message.scope(), is(equalTo("ui")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "feat:description", "feat: ", "feat!description", "feat(): description", "other: description" })
+    public void should_not_find_header_when_header_is_malformed(String header) {
+        assertThat(matcher.find(header), is(nullValue()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomHeaders")
+    public void should_match_like_regular_expression(String header) {
+        Matcher reference = REFERENCE_PATTERN.matcher(header);
+
+        if (!reference.find()) {
+            assertThat(matcher.find(header), is(nullValue()));
+
+            return;
+        }
+
+        ConventionalCommitMessage message = matcher.find(header);
+
+        assertThat("End", message.end(), is(reference.end(1)));
+        assertThat("Type", message.type(), is(equalTo(reference.group(2))));
+        assertThat("Scope", message.scope(), is(equalTo(reference.group(3))));
+        assertThat("Exclamation", message.exclamation(), is(reference.group(4) != null));
+        assertThat("Description", message.description(), is(equalTo(reference.group(5))));
+    }
+
+    private static Stream<String> randomHeaders() {
+        Random random = new Random(42);
+
+        return Stream.generate(() -> randomHeader(random))
+            .limit(1_000);
+    }
+
+    private static String randomHeader(Random random) {
+        StringBuilder header = new StringBuilder(TYPES.get(random.nextInt(TYPES.size())));
+
+        int tokens = random.nextInt(12);
+
+        for (int index = 0; index < tokens; index++) {
+            header.append(TOKENS[random.nextInt(TOKENS.length)]);
+        }
+
+        return header.toString();
+    }
+
+}
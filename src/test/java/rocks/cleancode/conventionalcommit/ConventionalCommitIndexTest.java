@@ -0,0 +1,154 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.number.OrderingComparison.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConventionalCommitIndexTest {
+
+    private static final String[] TYPES = {"feat", "fix", "docs", "refactor"};
+
+    private static final String[] SCOPES = {"api", "core", "parser"};
+
+    private final ConventionalCommitParser parser = new ConventionalCommitParser();
+
+    private final List<ConventionalCommit> commits = Stream.of(
+        "feat(api)!: Remove endpoint",
+        "fix: Fix parsing\n\nRefs: #1",
+        "feat(api): Add endpoint\n\nRefs: #2\nRefs: #3",
+        "docs(core): Document core",
+        "feat(api): Change endpoint\n\nBREAKING CHANGE: Endpoint changed"
+    ).map(parser::parse).collect(toList());
+
+    private final ConventionalCommitIndex index = new ConventionalCommitIndex.Builder().addAll(commits).build();
+
+    @Test
+    public void should_give_fields_of_commits() {
+        assertThat(index.size(), is(5));
+        assertThat(index.type(3), is(equalTo("docs")));
+        assertThat(index.scope(3), is(equalTo("core")));
+        assertThat(index.scope(1), is(nullValue()));
+        assertThat(index.breakingChange(4), is(true));
+        assertThat(index.breakingChange(2), is(false));
+    }
+
+    @Test
+    public void should_find_breaking_changes_of_type_and_scope() {
+        assertThat(index.query().type("feat").scope("api").breakingChange().ordinals(), is(new int[] {0, 4}));
+        assertThat(index.query().type("feat").scope("api").exclamation().ordinals(), is(new int[] {0}));
+    }
+
+    @Test
+    public void should_find_commits_by_footer_key() {
+        assertThat(index.query().footerKey("Refs").ordinals(), is(new int[] {1, 2}));
+        assertThat(index.query().footerKey("Refs").scope(null).ordinals(), is(new int[] {1}));
+        assertThat(index.query().footerKey("Unknown").count(), is(0));
+    }
+
+    @Test
+    public void should_find_commits_in_range() {
+        assertThat(index.query().type("feat").last(3).ordinals(), is(new int[] {2, 4}));
+        assertThat(index.query().range(1, 3).ordinals(), is(new int[] {1, 2}));
+        assertThat(index.query().type("unknown").count(), is(0));
+    }
+
+    @Test
+    public void should_throw_exception_when_range_is_out_of_bounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> index.query().range(2, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.type(5));
+    }
+
+    @Test
+    public void should_answer_as_linear_scan() {
+        Random random = new Random(42);
+        List<ConventionalCommit> randomCommits = IntStream.range(0, 5_000)
+            .mapToObj(ordinal -> randomCommit(random))
+            .collect(toList());
+        ConventionalCommitIndex randomIndex = new ConventionalCommitIndex.Builder().addAll(randomCommits).build();
+
+        for (String type : TYPES) {
+            for (String scope : SCOPES) {
+                int[] expected = scan(randomCommits, 1_000, 4_000, commit -> commit.type().equals(type)
+                    && commit.scope().map(scope::equals).orElse(false)
+                    && commit.breakingChange()
+                    && commit.footerEntries().containsKey("Refs"));
+
+                int[] ordinals = randomIndex.query()
+                    .range(1_000, 4_000)
+                    .type(type)
+                    .scope(scope)
+                    .breakingChange()
+                    .footerKey("Refs")
+                    .ordinals();
+
+                assertThat(ordinals, is(expected));
+            }
+        }
+    }
+
+    @Test
+    public void should_use_a_fraction_of_commits_memory() {
+        Random random = new Random(42);
+        List<ConventionalCommit> randomCommits = IntStream.range(0, 10_000)
+            .mapToObj(ordinal -> randomCommit(random))
+            .collect(toList());
+
+        ConventionalCommitIndex randomIndex = new ConventionalCommitIndex.Builder().addAll(randomCommits).build();
+
+        long indexSize = GraphLayout.parseInstance(randomIndex).totalSize();
+        long commitsSize = GraphLayout.parseInstance(randomCommits).totalSize();
+
+        assertThat(indexSize * 10, lessThanOrEqualTo(commitsSize));
+    }
+
+    private ConventionalCommit randomCommit(Random random) {
+        StringBuilder message = new StringBuilder(TYPES[random.nextInt(TYPES.length)]);
+
+        if (random.nextBoolean()) {
+            message.append('(').append(SCOPES[random.nextInt(SCOPES.length)]).append(')');
+        }
+
+        if (random.nextInt(10) == 0) {
+            message.append('!');
+        }
+
+        message.append(": Change ").append(random.nextInt());
+
+        if (random.nextBoolean()) {
+            message.append("\n\nRefs: #").append(random.nextInt(1000));
+        }
+
+        if (random.nextInt(10) == 0) {
+            message.append("\nBREAKING CHANGE: Changed");
+        }
+
+        return parser.parse(message.toString());
+    }
+
+    private static int[] scan(List<ConventionalCommit> commits, int from, int to, Predicate<ConventionalCommit> filter) {
+        List<Integer> ordinals = new ArrayList<>();
+
+        for (int ordinal = from; ordinal < to; ordinal++) {
+            if (filter.test(commits.get(ordinal))) {
+                ordinals.add(ordinal);
+            }
+        }
+
+        return ordinals.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+}
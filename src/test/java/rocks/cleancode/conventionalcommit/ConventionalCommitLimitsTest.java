@@ -0,0 +1,299 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.number.OrderingComparison.greaterThan;
+import static org.hamcrest.number.OrderingComparison.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static rocks.cleancode.hamcrest.optional.ValueMatcher.value;
+
+class ConventionalCommitLimitsTest {
+
+    private static final int MAX_READS_PER_CHARACTER = 8;
+
+    private static final String[] FRAGMENTS = {
+        "feat", "fix", "(", ")", "!", ":", ": ", " ", "\n", "\r\n", "\n\n", "a", "Refs: #1", "BREAKING CHANGE: x"
+    };
+
+    private ConventionalCommitParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        parser = new ConventionalCommitParser().withLimits(
+            new ConventionalCommitLimits.Builder()
+                .maxMessageLength(200)
+                .maxHeaderLength(50)
+                .maxFooterLines(2)
+                .maxScanSteps(1_000)
+                .build()
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("rocks.cleancode.conventionalcommit.ConventionalCommitTestCase#testCases")
+    public void should_parse_as_parser_without_limits(ConventionalCommitTestCase testCase) {
+        ConventionalCommitParser unlimitedParser = new ConventionalCommitParser()
+            .withLimits(ConventionalCommitLimits.UNLIMITED);
+
+        assertThat(unlimitedParser.parse(testCase.message()), is(equalTo(parser.parse(testCase.message()))));
+    }
+
+    @Test
+    public void should_fail_when_message_is_too_long() {
+        ConventionalCommitParseResult result = parser.tryParse("feat: A\n\n" + repeat("Body\n", 50));
+
+        assertThat(result.error(), value(is(ConventionalCommitParseError.MESSAGE_TOO_LONG)));
+        assertThat(result.errorOffset(), is(200));
+    }
+
+    @Test
+    public void should_fail_when_header_is_too_long() {
+        ConventionalCommitParseResult result = parser.tryParse("feat: " + repeat("a", 45) + "\n\nBody");
+
+        assertThat(result.error(), value(is(ConventionalCommitParseError.HEADER_TOO_LONG)));
+        assertThat(result.errorOffset(), is(50));
+        assertThat(parser.tryParse("feat: " + repeat("a", 44)).isSuccess(), is(true));
+    }
+
+    @Test
+    public void should_fail_when_footer_has_too_many_lines() {
+        ConventionalCommitParseResult result = parser.tryParse("feat: A\n\nRefs: #1\nRefs: #2\nRefs: #3");
+
+        assertThat(result.error(), value(is(ConventionalCommitParseError.TOO_MANY_FOOTER_LINES)));
+        assertThat(result.errorOffset(), is(9));
+        assertThat(parser.tryParse("feat: A\n\nRefs: #2\nRefs: #3").isSuccess(), is(true));
+    }
+
+    @Test
+    public void should_fail_when_header_needs_too_many_scan_steps() {
+        ConventionalCommitParser nestedTypesParser = new ConventionalCommitParser(nestedTypes(100))
+            .withLimits(new ConventionalCommitLimits.Builder().maxScanSteps(1_000).build());
+
+        ConventionalCommitParseResult result = nestedTypesParser.tryParse(repeat("a", 100) + " description");
+
+        assertThat(result.error(), value(is(ConventionalCommitParseError.SCAN_STEPS_EXCEEDED)));
+        assertThat(result.errorOffset(), is(0));
+    }
+
+    @Test
+    public void should_throw_exception_when_parsed_message_is_over_a_limit() {
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("feat: " + repeat("a", 100)));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseHeader("feat: " + repeat("a", 100)));
+    }
+
+    @Test
+    public void should_have_no_breaking_change_when_message_is_over_a_limit() {
+        assertThat(parser.hasBreakingChange("feat!: " + repeat("a", 100)), is(false));
+        assertThat(parser.hasBreakingChange("feat: A\n\nBREAKING CHANGE: x\nRefs: #1\nRefs: #2"), is(false));
+        assertThat(parser.hasBreakingChange("feat: A\n\nBREAKING CHANGE: x\nRefs: #1"), is(true));
+        assertThat(new VersionBumpCalculator(parser).bump("feat!: " + repeat("a", 100)), is(VersionBump.NONE));
+    }
+
+    @Test
+    public void should_keep_limits_of_lazy_body_parser() {
+        ConventionalCommitParseResult result = parser.withLazyBody().tryParse("feat: " + repeat("a", 100));
+
+        assertThat(result.error(), value(is(ConventionalCommitParseError.HEADER_TOO_LONG)));
+    }
+
+    @Test
+    public void should_give_same_result_as_full_parsing_after_edits_of_document() {
+        Random random = new Random(42);
+
+        for (int message = 0; message < 100; message++) {
+            ConventionalCommitDocument document = parser.open("feat: " + randomText(random, 10));
+
+            for (int edit = 0; edit < 50; edit++) {
+                int offset = random.nextInt(document.text().length() + 1);
+                int removedLength = random.nextInt(Math.min(8, document.text().length() - offset) + 1);
+
+                document = document.edit(offset, removedLength, randomText(random, 6));
+
+                ConventionalCommitParseResult expected = parser.tryParse(document.text());
+
+                assertThat(document.text(), document.result().commit(), is(equalTo(expected.commit())));
+                assertThat(document.text(), document.result().error(), is(equalTo(expected.error())));
+                assertThat(document.text(), document.result().errorOffset(), is(expected.errorOffset()));
+            }
+        }
+    }
+
+    @Test
+    public void should_throw_exception_when_limit_is_out_of_range() {
+        ConventionalCommitLimits.Builder builder = new ConventionalCommitLimits.Builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.maxMessageLength(0).build());
+        assertThrows(IllegalArgumentException.class, () -> builder.maxMessageLength(1).maxHeaderLength(0).build());
+        assertThrows(IllegalArgumentException.class, () -> builder.maxHeaderLength(1).maxFooterLines(-1).build());
+        assertThrows(IllegalArgumentException.class, () -> builder.maxFooterLines(0).maxScanSteps(0).build());
+    }
+
+    @Test
+    public void should_read_nested_type_headers_quadratically_without_scan_steps_limit() {
+        ConventionalCommitParser nestedTypesParser = new ConventionalCommitParser(nestedScopeTypes(100));
+        CountingCharSequence message = new CountingCharSequence(repeat("a(", 100) + repeat(")", 10_000));
+
+        nestedTypesParser.tryParseView(message);
+
+        assertThat(message.reads(), is(greaterThan(100L * 10_000)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 100_000})
+    public void should_read_pathological_messages_in_linear_time(int length) {
+        List<String> types = new ArrayList<>(asList(nestedTypes(100)));
+
+        types.addAll(asList(nestedScopeTypes(100)));
+
+        ConventionalCommitLimits limits = new ConventionalCommitLimits.Builder()
+            .maxFooterLines(100)
+            .maxScanSteps(4L * length)
+            .build();
+        ConventionalCommitParser limitedParser = new ConventionalCommitParser(types.toArray(new String[0]))
+            .withLimits(limits);
+
+        List<IntFunction<String>> pathologicalMessages = new ArrayList<>();
+
+        pathologicalMessages.add(size -> repeat("a", 100) + repeat(" ", size));
+        pathologicalMessages.add(size -> "a(" + repeat(")", size));
+        pathologicalMessages.add(size -> repeat("a(", 100) + repeat(")", size));
+        pathologicalMessages.add(size -> "a(" + repeat(")!", size / 2));
+        pathologicalMessages.add(size -> "a: b\n\n" + repeat("Key: value\n", size / 11));
+        pathologicalMessages.add(size -> "a: b\n\n" + repeat("BREAKING CHANGE: x\r\n", size / 20));
+        pathologicalMessages.add(size -> "a: b\n\n" + repeat("Key:", size / 4));
+        pathologicalMessages.add(size -> "a: b" + repeat("\n", size));
+        pathologicalMessages.add(size -> repeat("a", size));
+
+        for (IntFunction<String> pathologicalMessage : pathologicalMessages) {
+            assertLinearReads(limitedParser, pathologicalMessage.apply(length));
+        }
+
+        Random random = new Random(length);
+
+        for (int message = 0; message < 20; message++) {
+            StringBuilder fuzzed = new StringBuilder(length + 20);
+
+            while (fuzzed.length() < length) {
+                fuzzed.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+
+            assertLinearReads(limitedParser, fuzzed.toString());
+        }
+    }
+
+    private static void assertLinearReads(ConventionalCommitParser parser, String message) {
+        CountingCharSequence counted = new CountingCharSequence(message);
+
+        parser.tryParseView(counted);
+
+        assertThat(
+            message.substring(0, Math.min(message.length(), 20)),
+            counted.reads(),
+            is(lessThanOrEqualTo((long) MAX_READS_PER_CHARACTER * message.length() + 1_000))
+        );
+    }
+
+    private static String[] nestedTypes(int count) {
+        String[] types = new String[count];
+
+        for (int type = 0; type < count; type++) {
+            types[type] = repeat("a", type + 1);
+        }
+
+        return types;
+    }
+
+    /**
+     * Types followed by an opening parenthesis in messages starting with the longest type,
+     * so that the scope is searched after each of them.
+     */
+    private static String[] nestedScopeTypes(int count) {
+        String[] types = new String[count];
+
+        for (int type = 0; type < count; type++) {
+            types[type] = repeat("a(", type) + "a";
+        }
+
+        return types;
+    }
+
+    private static String repeat(String text, int count) {
+        StringBuilder repeated = new StringBuilder(text.length() * count);
+
+        for (int index = 0; index < count; index++) {
+            repeated.append(text);
+        }
+
+        return repeated.toString();
+    }
+
+    private static String randomText(Random random, int maxFragments) {
+        StringBuilder text = new StringBuilder();
+        int fragments = random.nextInt(maxFragments + 1);
+
+        for (int fragment = 0; fragment < fragments; fragment++) {
+            text.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+
+        return text.toString();
+    }
+
+    /**
+     * Message counting the characters read by the parser.
+     */
+    private static final class CountingCharSequence implements CharSequence {
+
+        private final String text;
+
+        private long reads;
+
+        private CountingCharSequence(String text) {
+            this.text = text;
+        }
+
+        private long reads() {
+            return reads;
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            reads++;
+
+            return text.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            reads += end - start;
+
+            return text.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            reads += text.length();
+
+            return text;
+        }
+
+    }
+
+}
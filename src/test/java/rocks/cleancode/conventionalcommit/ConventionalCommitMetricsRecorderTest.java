@@ -0,0 +1,194 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.number.OrderingComparison.greaterThan;
+import static org.hamcrest.number.OrderingComparison.greaterThanOrEqualTo;
+import static org.hamcrest.number.OrderingComparison.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConventionalCommitMetricsRecorderTest {
+
+    private ConventionalCommitMetricsRecorder metrics;
+
+    private ConventionalCommitParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        metrics = new ConventionalCommitMetricsRecorder();
+        parser = new ConventionalCommitParser().withMetrics(metrics, 1);
+    }
+
+    @ParameterizedTest
+    @MethodSource("rocks.cleancode.conventionalcommit.ConventionalCommitTestCase#testCases")
+    public void should_parse_as_parser_without_metrics(ConventionalCommitTestCase testCase) {
+        ConventionalCommit expected = new ConventionalCommitParser().parse(testCase.message());
+
+        assertThat(parser.parse(testCase.message()), is(equalTo(expected)));
+        assertThat(metrics.parseCount(), is(1L));
+    }
+
+    @Test
+    public void should_count_parsed_messages_and_failures_by_reason() {
+        parser.tryParse("feat: My new feature\n\nBody\n\nRefs: #123");
+        parser.tryParse("Merge branch 'main'");
+        parser.tryParse("feat:  ");
+        parser.parseView("fix: Bug");
+        parser.withLazyBody().tryParse("docs: Readme");
+
+        assertThat(metrics.parseCount(), is(5L));
+        assertThat(metrics.failureCount(), is(2L));
+        assertThat(metrics.failureCount(ConventionalCommitParseError.MALFORMED_HEADER), is(1L));
+        assertThat(metrics.failureCount(ConventionalCommitParseError.MISSING_DESCRIPTION), is(1L));
+        assertThat(metrics.failureCount(ConventionalCommitParseError.MISSING_TYPE), is(0L));
+    }
+
+    @Test
+    public void should_record_lengths_of_messages() {
+        parser.tryParse("feat: A");
+        parser.tryParse("feat: My new feature\n\nBody\n\nRefs: #123");
+        parser.tryParse("Merge branch 'main'");
+
+        ConventionalCommitHistogram lengths = metrics.lengths();
+
+        assertThat(lengths.count(), is(3L));
+        assertThat(lengths.sum(), is(7L + 38 + 19));
+        assertThat(lengths.max(), is(38L));
+        assertThat(lengths.percentile(50), is(31L));
+    }
+
+    @Test
+    public void should_record_phase_times_of_parsed_messages() {
+        parser.parseAll(Arrays.asList("feat: A", "fix: B\n\nRefs: #123", "Merge branch 'main'"));
+
+        assertThat(metrics.headerNanos().count(), is(3L));
+        assertThat(metrics.footerNanos().count(), is(2L));
+        assertThat(metrics.bodyNanos().count(), is(2L));
+        assertThat(metrics.headerNanos().sum(), is(greaterThan(0L)));
+    }
+
+    @Test
+    public void should_not_measure_header_only_methods() {
+        parser.parseHeader("feat: A");
+        parser.hasBreakingChange("feat!: A");
+
+        assertThat(metrics.parseCount(), is(0L));
+    }
+
+    @Test
+    public void should_only_measure_times_of_sampled_messages() {
+        ConventionalCommitParser sampledParser = new ConventionalCommitParser().withMetrics(metrics, 1_000);
+
+        for (int message = 0; message < 1_000; message++) {
+            sampledParser.tryParse("feat: A");
+        }
+
+        assertThat(metrics.parseCount(), is(1_000L));
+        assertThat(metrics.lengths().count(), is(1_000L));
+        assertThat(metrics.headerNanos().count(), is(lessThan(100L)));
+    }
+
+    @Test
+    public void should_sum_metrics_of_all_threads() throws InterruptedException {
+        Thread[] threads = new Thread[4];
+
+        for (int thread = 0; thread < threads.length; thread++) {
+            threads[thread] = new Thread(() -> {
+                for (int message = 0; message < 1_000; message++) {
+                    parser.tryParse("feat: A");
+                }
+            });
+            threads[thread].start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(metrics.parseCount(), is(4_000L));
+        assertThat(metrics.bodyNanos().count(), is(4_000L));
+    }
+
+    @Test
+    public void should_keep_metrics_of_ended_threads() throws InterruptedException {
+        for (int thread = 0; thread < 200; thread++) {
+            String message = thread == 0 ? "feat: Longest message" : "feat: A";
+            Thread shortLived = new Thread(() -> {
+                parser.tryParse(message);
+                parser.tryParse("Malformed");
+            });
+
+            shortLived.start();
+            shortLived.join();
+
+            assertThat(metrics.parseCount(), is(2L * (thread + 1)));
+        }
+
+        parser.tryParse("feat: A");
+
+        assertThat(metrics.parseCount(), is(401L));
+        assertThat(metrics.failureCount(ConventionalCommitParseError.MALFORMED_HEADER), is(200L));
+        assertThat(metrics.lengths().count(), is(401L));
+        assertThat(metrics.lengths().max(), is(21L));
+        assertThat(metrics.bodyNanos().count(), is(201L));
+    }
+
+    @Test
+    public void should_throw_exception_when_timing_interval_is_not_positive() {
+        ConventionalCommitParser parserWithoutMetrics = new ConventionalCommitParser();
+
+        assertThrows(IllegalArgumentException.class, () -> parserWithoutMetrics.withMetrics(metrics, 0));
+    }
+
+    @Test
+    public void should_keep_metrics_of_lazy_body_parser() {
+        parser.withLazyBody().parse("feat: A");
+
+        assertThat(metrics.parseCount(), is(1L));
+    }
+
+    @Test
+    public void should_give_percentiles_as_power_of_two_upper_bounds() {
+        AtomicLongArray counters = new AtomicLongArray(LogHistogram.SIZE);
+
+        for (long value = 1; value <= 100; value++) {
+            LogHistogram.record(counters, 0, value);
+        }
+
+        ConventionalCommitHistogram snapshot = LogHistogram.snapshot(Collections.singletonList(counters), 0);
+
+        assertThat(snapshot.percentile(0), is(1L));
+        assertThat(snapshot.percentile(50), is(63L));
+        assertThat(snapshot.percentile(50), is(greaterThanOrEqualTo(50L)));
+        assertThat(snapshot.percentile(100), is(100L));
+        assertThat(snapshot.mean(), is(50.5));
+    }
+
+    @Test
+    public void should_throw_exception_when_percentile_is_out_of_range() {
+        ConventionalCommitHistogram histogram = metrics.lengths();
+
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(101));
+    }
+
+    @Test
+    public void should_give_zero_values_when_nothing_is_recorded() {
+        ConventionalCommitHistogram histogram = metrics.bodyNanos();
+
+        assertThat(histogram.count(), is(0L));
+        assertThat(histogram.mean(), is(0.0));
+        assertThat(histogram.percentile(99), is(0L));
+    }
+
+}
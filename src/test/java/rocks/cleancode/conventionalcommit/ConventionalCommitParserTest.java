@@ -3,14 +3,29 @@ package rocks.cleancode.conventionalcommit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.number.OrderingComparison.greaterThanOrEqualTo;
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.core.Every.everyItem;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static rocks.cleancode.hamcrest.optional.ValueMatcher.value;
 
 class ConventionalCommitParserTest {
 
@@ -29,6 +44,54 @@ class ConventionalCommitParserTest {
         );
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "My commit message, MALFORMED_HEADER, 0",
+        "feat:My commit message, MALFORMED_HEADER, 5",
+        "feat(scope: My commit message, MALFORMED_HEADER, 29",
+        "feat!! My commit message, MALFORMED_HEADER, 5",
+        "'feat:  ', MISSING_DESCRIPTION, 6"
+    })
+    public void should_report_error_when_commit_message_has_not_conventional_commit_format(
+            String message,
+            ConventionalCommitParseError error,
+            int errorOffset
+    ) {
+        ConventionalCommitParseResult result = parser.tryParse(message);
+
+        assertThat(result.isSuccess(), is(false));
+        assertThat(result.commit().isPresent(), is(false));
+        assertThat(result.error(), value(is(error)));
+        assertThat(result.errorOffset(), is(errorOffset));
+    }
+
+    @Test
+    public void should_keep_all_values_when_footer_key_is_duplicated() {
+        ConventionalCommit conventionalCommit = parser.parse(
+            "feat: My feature\n\nCo-authored-by: Jane\nRefs: #1\nCo-authored-by: John"
+        );
+
+        assertThat(conventionalCommit.footerEntries().size(), is(3));
+        assertThat(conventionalCommit.footerEntries().getAll("Co-authored-by"), contains("Jane", "John"));
+        assertThat(conventionalCommit.footerEntries().get("Co-authored-by"), value(is(equalTo("Jane"))));
+        assertThat(conventionalCommit.footer().get("Co-authored-by"), is(equalTo("Jane")));
+        assertThat(conventionalCommit.footer().keySet(), contains("Co-authored-by", "Refs"));
+        assertThat(
+            conventionalCommit.toString(),
+            is(equalTo("feat: My feature\n\nCo-authored-by: Jane\nRefs: #1\nCo-authored-by: John"))
+        );
+    }
+
+    @Test
+    public void should_return_conventional_commit_when_message_is_valid() {
+        ConventionalCommitParseResult result = parser.tryParse("feat: My feature");
+
+        assertThat(result.isSuccess(), is(true));
+        assertThat(result.error().isPresent(), is(false));
+        assertThat(result.errorOffset(), is(-1));
+        assertThat(result.commit(), value(is(equalTo(new ConventionalCommit("feat", "My feature")))));
+    }
+
     @ParameterizedTest
     @MethodSource("types")
     public void should_parse_types(String type) {
@@ -71,6 +134,106 @@ class ConventionalCommitParserTest {
         assertThat("Breaking change", conventionalCommit.breakingChange(), is(testCase.expected().breakingChange()));
     }
 
+    @ParameterizedTest
+    @MethodSource("rocks.cleancode.conventionalcommit.ConventionalCommitTestCase#testCases")
+    public void should_parse_same_conventional_commit_with_lazy_body(ConventionalCommitTestCase testCase) {
+        ConventionalCommit conventionalCommit = parser.withLazyBody().parse(testCase.message());
+
+        assertThat("Body", conventionalCommit.body().orElse(null), is(equalTo(testCase.expected().body())));
+        assertThat(conventionalCommit, is(equalTo(parser.parse(testCase.message()))));
+        assertThat(conventionalCommit.toString(), is(equalTo(parser.parse(testCase.message()).toString())));
+    }
+
+    @Test
+    public void should_extract_lazy_body_once() {
+        ConventionalCommit conventionalCommit = parser.withLazyBody()
+            .parse("feat: My new feature\n\n  My body  \n\nRefs: #123");
+
+        assertThat(conventionalCommit.body(), value(is(equalTo("My body"))));
+        assertThat(conventionalCommit.body().get(), is(sameInstance(conventionalCommit.body().get())));
+        assertThat(conventionalCommit.footer().get("Refs"), is(equalTo("#123")));
+    }
+
+    @Test
+    public void should_keep_lazy_body_parser() {
+        ConventionalCommitParser lazyBodyParser = parser.withLazyBody();
+
+        assertThat(lazyBodyParser.withLazyBody(), is(sameInstance(lazyBodyParser)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("rocks.cleancode.conventionalcommit.ConventionalCommitTestCase#testCases")
+    public void should_parse_header_as_parse(ConventionalCommitTestCase testCase) {
+        ConventionalCommit conventionalCommit = parser.parse(testCase.message());
+
+        ConventionalCommitHeader header = parser.parseHeader(testCase.message());
+
+        assertThat("Type", header.type(), is(equalTo(conventionalCommit.type())));
+        assertThat("Scope", header.scope(), is(equalTo(conventionalCommit.scope())));
+        assertThat("Exclamation", header.exclamation(), is(conventionalCommit.exclamation()));
+        assertThat("Description", header.description(), is(equalTo(conventionalCommit.description())));
+    }
+
+    @ParameterizedTest
+    @MethodSource("rocks.cleancode.conventionalcommit.ConventionalCommitTestCase#testCases")
+    public void should_find_breaking_change_as_parse(ConventionalCommitTestCase testCase) {
+        assertThat(parser.hasBreakingChange(testCase.message()), is(testCase.expected().breakingChange()));
+    }
+
+    @Test
+    public void should_only_read_first_line_when_parsing_header() {
+        String message = "feat(scope)!: My new feature\n\nMy body\n\nRefs: #123";
+        InspectedCharSequence inspected = new InspectedCharSequence(message);
+
+        ConventionalCommitHeader header = parser.parseHeader(inspected);
+
+        assertThat(header.toString(), is(equalTo("feat(scope)!: My new feature")));
+        assertThat(inspected.highest(), is(message.indexOf('\n')));
+    }
+
+    @Test
+    public void should_not_read_body_when_looking_for_breaking_change() {
+        String message = "feat: My new feature\n\nMy body\n\nRefs: #123\nBREAKING CHANGE: API changed";
+        int bodyStart = message.indexOf("My body");
+        // Last character of the body is read to know whether the blank line is a CRLF one
+        int bodyEnd = bodyStart + "My body".length() - 1;
+
+        CharSequence unreadableBody = new CharSequence() {
+
+            @Override
+            public int length() {
+                return message.length();
+            }
+
+            @Override
+            public char charAt(int index) {
+                if (index >= bodyStart && index < bodyEnd) {
+                    throw new IllegalStateException("Body has been read at " + index);
+                }
+
+                return message.charAt(index);
+            }
+
+            @Override
+            public CharSequence subSequence(int start, int end) {
+                return message.subSequence(start, end);
+            }
+
+        };
+
+        assertThat(parser.hasBreakingChange(unreadableBody), is(true));
+    }
+
+    @Test
+    public void should_throw_exception_when_header_is_malformed() {
+        assertThrows(IllegalArgumentException.class, () -> parser.parseHeader("Merge branch 'main'"));
+    }
+
+    @Test
+    public void should_not_find_breaking_change_when_header_is_malformed() {
+        assertThat(parser.hasBreakingChange("Merge branch 'main'\n\nBREAKING CHANGE: API changed"), is(false));
+    }
+
     @Test
     public void should_parse_message_with_custom_type() {
         ConventionalCommitParser parser = new ConventionalCommitParser("custom1", "custom2");
@@ -82,4 +245,125 @@ class ConventionalCommitParserTest {
         assertThat(secondCommit.type(), is(equalTo("custom2")));
     }
 
+    @Test
+    public void should_parse_longest_matching_type_of_large_vocabulary() {
+        List<String> types = IntStream.range(0, 10_000)
+            .mapToObj(index -> "team" + index + (index % 2 == 0 ? "" : "-ui"))
+            .collect(toList());
+        ConventionalCommitParser parser = new ConventionalCommitParser(types.toArray(new String[0]));
+
+        for (String type : types) {
+            assertThat(parser.parse(type + "(scope): My message").type(), is(sameInstance(type)));
+        }
+
+        assertThat(parser.parse("team1-ui: My message").type(), is(equalTo("team1-ui")));
+        assertThat(parser.parse("team12(ui): My message").type(), is(equalTo("team12")));
+        assertThat(parser.tryParse("team1: My message").error(), value(is(ConventionalCommitParseError.MALFORMED_HEADER)));
+        assertThat(parser.tryParse("team2-ui: My message").error(), value(is(ConventionalCommitParseError.MALFORMED_HEADER)));
+    }
+
+    @Test
+    public void should_share_type_footer_keys_and_scopes_between_commits() {
+        String type = new String("custom".toCharArray());
+        ConventionalCommitParser parser = new ConventionalCommitParser(type);
+
+        ConventionalCommit firstCommit = parser.parse("custom(parser): First message\n\nRefs: #1\nReviewed-by: Me");
+        ConventionalCommit secondCommit = parser.parse("custom(parser): Second message\n\nRefs: #2\nReviewed-by: Me");
+
+        assertThat(firstCommit.type(), is(sameInstance(type)));
+        assertThat(secondCommit.type(), is(sameInstance(type)));
+        assertThat(secondCommit.scope().get(), is(sameInstance(firstCommit.scope().get())));
+        assertThat(
+            secondCommit.footer().keySet().iterator().next(),
+            is(sameInstance(firstCommit.footer().keySet().iterator().next()))
+        );
+        assertThat(secondCommit.footer().get("Reviewed-by"), is(sameInstance(firstCommit.footer().get("Reviewed-by"))));
+    }
+
+    @Test
+    public void should_keep_footer_in_message_order() {
+        ConventionalCommit conventionalCommit = parser.parse("feat: My feature\n\nRefs: #1\nA: 1\nZ: 2\nB: 3");
+
+        assertThat(conventionalCommit.footer().keySet(), contains("Refs", "A", "Z", "B"));
+    }
+
+    @Test
+    public void should_share_parser_for_same_types() {
+        ConventionalCommitParser parser = ConventionalCommitParser.forTypes(asList("shared1", "shared2"));
+
+        long hits = ConventionalCommitParser.parserCacheStatistics().hitCount();
+
+        assertThat(ConventionalCommitParser.forTypes(asList("shared2", "shared1", "shared2")), is(sameInstance(parser)));
+        assertThat(ConventionalCommitParser.forTypes(asList("shared1")), is(not(sameInstance(parser))));
+        assertThat(ConventionalCommitParser.forTypes(new HashSet<>(asList("shared2", "shared1"))), is(sameInstance(parser)));
+        assertThat(ConventionalCommitParser.forTypes(new ArrayDeque<>(asList("shared1", "shared2"))), is(sameInstance(parser)));
+        assertThat(ConventionalCommitParser.parserCacheStatistics().hitCount(), is(greaterThanOrEqualTo(hits + 1)));
+        assertThat(parser.parse("shared2: My message").type(), is(equalTo("shared2")));
+    }
+
+    @Test
+    public void should_parse_concurrently_with_same_parser() {
+        List<String> types = IntStream.range(0, 10_000)
+                .parallel()
+                .mapToObj(index -> parser.parse(String.format("feat(scope-%d): My message %d", index, index)))
+                .map(ConventionalCommit::type)
+                .collect(toList());
+
+        assertThat(types, everyItem(is(equalTo("feat"))));
+    }
+
+    @Test
+    public void should_parse_all_messages_in_order() {
+        List<String> messages = IntStream.range(0, 5_000)
+                .mapToObj(index -> index % 3 == 0 ? "Merge branch " + index : "fix: Fix " + index)
+                .collect(toList());
+
+        List<ConventionalCommitParseResult> results = parser.parseAll(messages);
+
+        assertParsedInOrder(messages, results);
+    }
+
+    @Test
+    public void should_parse_all_messages_in_order_with_executor() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<String> messages = IntStream.range(0, 5_000)
+                    .mapToObj(index -> index % 3 == 0 ? "Merge branch " + index : "fix: Fix " + index)
+                    .collect(toList());
+
+            List<ConventionalCommitParseResult> results = parser.parseAll(messages, executor);
+
+            assertParsedInOrder(messages, results);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void should_parse_all_messages_of_stream_in_order() {
+        List<String> messages = IntStream.range(0, 5_000)
+                .mapToObj(index -> index % 3 == 0 ? "Merge branch " + index : "fix: Fix " + index)
+                .collect(toList());
+
+        List<ConventionalCommitParseResult> results = parser.parseAll(messages.stream()).collect(toList());
+
+        assertParsedInOrder(messages, results);
+    }
+
+    private void assertParsedInOrder(List<String> messages, List<ConventionalCommitParseResult> results) {
+        assertThat(results.size(), is(messages.size()));
+
+        for (int index = 0; index < messages.size(); index++) {
+            ConventionalCommitParseResult result = results.get(index);
+
+            if (index % 3 == 0) {
+                assertThat(result.isSuccess(), is(false));
+                assertThat(result.error(), value(is(ConventionalCommitParseError.MALFORMED_HEADER)));
+            } else {
+                assertThat(result.orElseThrow().description(), is(equalTo("Fix " + index)));
+            }
+        }
+    }
+
 }
@@ -0,0 +1,102 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+
+class ConventionalCommitReaderTest {
+
+    private static final String GIT_LOG = "feat: My new feature\n\nWith body\n\u0000\n"
+        + "Merge branch 'main'\n\u0000\n"
+        + "fix(parser)!: Fix café parsing\n\nRefs: #123\n\u0000\n";
+
+    private final ConventionalCommitParser parser = new ConventionalCommitParser();
+
+    @Test
+    public void should_read_messages_from_input_stream() throws IOException {
+        try (ConventionalCommitReader reader =
+                 new ConventionalCommitReader(parser, new ByteArrayInputStream(GIT_LOG.getBytes(UTF_8)))) {
+            assertGitLog(reader);
+        }
+    }
+
+    @Test
+    public void should_read_messages_from_channel() throws IOException {
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(GIT_LOG.getBytes(UTF_8));
+
+        try (ConventionalCommitReader reader =
+                 new ConventionalCommitReader(parser, Channels.newChannel(inputStream))) {
+            assertGitLog(reader);
+        }
+    }
+
+    @Test
+    public void should_read_messages_from_file(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("git.log");
+        Files.write(file, GIT_LOG.getBytes(UTF_8));
+
+        try (ConventionalCommitReader reader = ConventionalCommitReader.open(parser, file)) {
+            assertGitLog(reader);
+        }
+    }
+
+    @Test
+    public void should_read_messages_with_custom_delimiter() throws IOException {
+        String log = "feat: First~fix: Second~~";
+
+        try (ConventionalCommitReader reader = new ConventionalCommitReader(parser, new StringReader(log), '~')) {
+            assertThat(reader.read().orElseThrow().description(), is(equalTo("First")));
+            assertThat(reader.read().orElseThrow().description(), is(equalTo("Second")));
+            assertThat(reader.read(), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void should_read_messages_larger_than_buffer() {
+        String body = Stream.generate(() -> "Some long body line")
+            .limit(2_000)
+            .collect(joining("\n"));
+
+        String log = IntStream.range(0, 10)
+            .mapToObj(index -> "feat: Feature " + index + "\n\n" + body)
+            .collect(joining("\u0000"));
+
+        ConventionalCommitReader reader = new ConventionalCommitReader(parser, new StringReader(log));
+
+        try (Stream<ConventionalCommitParseResult> results = reader.stream()) {
+            List<String> bodies = results
+                .map(result -> result.orElseThrow().body().orElse(null))
+                .collect(toList());
+
+            assertThat(bodies.size(), is(10));
+            assertThat(bodies.stream().allMatch(body::equals), is(true));
+        }
+    }
+
+    private void assertGitLog(ConventionalCommitReader reader) {
+        List<String> descriptions = reader.stream()
+            .map(result -> result.commit().map(ConventionalCommit::description).orElse("<malformed>"))
+            .collect(toList());
+
+        assertThat(descriptions, contains("My new feature", "<malformed>", "Fix café parsing"));
+    }
+
+}
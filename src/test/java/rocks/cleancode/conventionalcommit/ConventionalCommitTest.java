@@ -6,13 +6,19 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.joining;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsMapWithSize.anEmptyMap;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static rocks.cleancode.hamcrest.optional.ValueMatcher.value;
 
@@ -124,4 +130,113 @@ class ConventionalCommitTest {
         );
     }
 
+    @Test
+    public void should_be_equal_when_values_are_equal() {
+        ConventionalCommit conventionalCommit = new ConventionalCommit.Builder()
+            .type("feat")
+            .scope("feature-scope")
+            .description("My feature description")
+            .footer("Refs", "#123")
+            .build();
+
+        Map<String, String> footer = new HashMap<>();
+        footer.put("Refs", "#123");
+
+        ConventionalCommit other = new ConventionalCommit(
+            "feat",
+            "feature-scope",
+            false,
+            "My feature description",
+            null,
+            footer
+        );
+
+        assertThat(conventionalCommit, is(equalTo(other)));
+        assertThat(conventionalCommit.hashCode(), is(other.hashCode()));
+        assertThat(conventionalCommit, is(not(equalTo(new ConventionalCommit("feat", "My feature description")))));
+    }
+
+    @ParameterizedTest
+    @MethodSource("rocks.cleancode.conventionalcommit.ConventionalCommitTestCase#testCases")
+    public void should_write_conventional_commit_message(ConventionalCommitTestCase testCase) throws IOException {
+        ConventionalCommit conventionalCommit = new ConventionalCommit(
+            testCase.expected().type(),
+            testCase.expected().scope(),
+            testCase.expected().exclamation(),
+            testCase.expected().description(),
+            testCase.expected().body(),
+            testCase.expected().footer()
+        );
+
+        StringBuilder builder = new StringBuilder("previous");
+        StringWriter writer = new StringWriter();
+
+        conventionalCommit.writeTo(builder);
+        conventionalCommit.writeTo(writer);
+
+        assertThat(builder.toString(), is(equalTo("previous" + testCase.message())));
+        assertThat(writer.toString(), is(equalTo(testCase.message())));
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomConventionalCommits")
+    public void should_generate_same_message_as_format(ConventionalCommit conventionalCommit) throws IOException {
+        StringWriter writer = new StringWriter();
+
+        conventionalCommit.writeTo(writer);
+
+        assertThat(conventionalCommit.toString(), is(equalTo(formatReference(conventionalCommit))));
+        assertThat(writer.toString(), is(equalTo(formatReference(conventionalCommit))));
+    }
+
+    private static Stream<ConventionalCommit> randomConventionalCommits() {
+        Random random = new Random(42);
+
+        return Stream.generate(() -> randomConventionalCommit(random))
+            .limit(1_000);
+    }
+
+    private static ConventionalCommit randomConventionalCommit(Random random) {
+        ConventionalCommit.Builder builder = new ConventionalCommit.Builder()
+            .type(randomText(random, "feat"))
+            .scope(random.nextBoolean() ? randomText(random, "scope") : null)
+            .exclamation(random.nextBoolean())
+            .description(randomText(random, "description"))
+            .body(random.nextBoolean() ? randomText(random, "body") : null);
+
+        int entries = random.nextInt(3);
+
+        for (int index = 0; index < entries; index++) {
+            builder.footer(randomText(random, "key" + index), random.nextBoolean() ? randomText(random, "") : null);
+        }
+
+        return builder.build();
+    }
+
+    private static String randomText(Random random, String text) {
+        String[] whitespaces = { "", " ", "\n", "\t", "\r\n" };
+
+        return whitespaces[random.nextInt(whitespaces.length)]
+            + text
+            + whitespaces[random.nextInt(whitespaces.length)];
+    }
+
+    private static String formatReference(ConventionalCommit conventionalCommit) {
+        String newline = String.format("%n");
+
+        return String.format(
+                "%s%s%s: %s%s%s",
+                conventionalCommit.type(),
+                conventionalCommit.scope().map(scope -> String.format("(%s)", scope)).orElse(""),
+                conventionalCommit.exclamation() ? "!" : "",
+                conventionalCommit.description(),
+                conventionalCommit.body().map(body -> newline + newline + body).orElse(""),
+                conventionalCommit.footer().entrySet()
+                    .stream()
+                    .map(entry -> String.format("%s%s%s", entry.getKey(), ": ", entry.getValue()))
+                    .collect(joining(newline, newline + newline, ""))
+            )
+            .trim();
+    }
+
 }
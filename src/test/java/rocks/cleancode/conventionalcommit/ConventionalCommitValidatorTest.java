@@ -0,0 +1,134 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static rocks.cleancode.hamcrest.optional.ValueMatcher.value;
+
+class ConventionalCommitValidatorTest {
+
+    private static final String INVALID_MESSAGE =
+        "feat(web): Add a new endpoint to the API\nThis body line is longer than twenty characters";
+
+    private final ConventionalCommitValidator validator = new ConventionalCommitValidator.Builder()
+        .allowedScopes("api", "core")
+        .maxHeaderLength(30)
+        .lowerCaseDescription()
+        .blankLineBeforeBody()
+        .requiredFooterKeys("Refs")
+        .maxBodyLineLength(20)
+        .build();
+
+    @Test
+    public void should_accept_message_respecting_all_rules() {
+        ConventionalCommitValidation validation =
+            validator.validate("feat(api): add endpoint\n\nShort body line\n\nRefs: #123");
+
+        assertThat(validation.isValid(), is(true));
+        assertThat(validation.violations(), is(empty()));
+        assertThat(validation.result().commit().flatMap(ConventionalCommit::scope), value(is(equalTo("api"))));
+    }
+
+    @Test
+    public void should_report_every_violation_sorted_by_offset() {
+        ConventionalCommitValidation validation = validator.validate(INVALID_MESSAGE);
+
+        assertThat(validation.isValid(), is(false));
+        assertThat(validation.violations(), contains(
+            new ConventionalCommitViolation(ConventionalCommitRule.SCOPE_NOT_ALLOWED, 5, "web"),
+            new ConventionalCommitViolation(
+                ConventionalCommitRule.DESCRIPTION_NOT_LOWER_CASE,
+                11,
+                "Add a new endpoint to the API"
+            ),
+            new ConventionalCommitViolation(ConventionalCommitRule.HEADER_TOO_LONG, 30, "40 characters, maximum is 30"),
+            new ConventionalCommitViolation(ConventionalCommitRule.MISSING_BLANK_LINE_BEFORE_BODY, 41, null),
+            new ConventionalCommitViolation(
+                ConventionalCommitRule.BODY_LINE_TOO_LONG,
+                61,
+                "47 characters, maximum is 20"
+            ),
+            new ConventionalCommitViolation(ConventionalCommitRule.MISSING_FOOTER_KEY, 88, "Refs")
+        ));
+    }
+
+    @Test
+    public void should_accept_crlf_blank_line_before_body() {
+        ConventionalCommitValidation validation =
+            validator.validate("feat: add endpoint\r\n\r\nBody\r\n\r\nRefs: #123");
+
+        assertThat(validation.violations(), is(empty()));
+    }
+
+    @Test
+    public void should_report_single_crlf_before_body() {
+        ConventionalCommitValidation validation = validator.validate("feat: add endpoint\r\nBody\r\n\r\nRefs: #123");
+
+        assertThat(validation.violations(), contains(
+            new ConventionalCommitViolation(ConventionalCommitRule.MISSING_BLANK_LINE_BEFORE_BODY, 20, null)
+        ));
+    }
+
+    @Test
+    public void should_not_check_rules_when_message_cannot_be_parsed() {
+        ConventionalCommitValidation validation = validator.validate("Merge branch 'main'");
+
+        assertThat(validation.isValid(), is(false));
+        assertThat(validation.violations(), is(empty()));
+        assertThat(validation.result().error(), value(is(ConventionalCommitParseError.MALFORMED_HEADER)));
+    }
+
+    @Test
+    public void should_check_case_of_first_visible_character_of_description() {
+        ConventionalCommitValidation validation = validator.validate("feat(api):  Add endpoint\n\nRefs: #123");
+
+        assertThat(validation.violations(), contains(
+            new ConventionalCommitViolation(ConventionalCommitRule.DESCRIPTION_NOT_LOWER_CASE, 12, " Add endpoint")
+        ));
+    }
+
+    @Test
+    public void should_parse_with_limits_metrics_and_lazy_body_of_parser() {
+        ConventionalCommitMetricsRecorder metrics = new ConventionalCommitMetricsRecorder();
+        ConventionalCommitParser parser = new ConventionalCommitParser()
+            .withLazyBody()
+            .withLimits(new ConventionalCommitLimits.Builder().maxMessageLength(50).build())
+            .withMetrics(metrics, 1);
+        ConventionalCommitValidator limitedValidator = new ConventionalCommitValidator.Builder()
+            .parser(parser)
+            .lowerCaseDescription()
+            .build();
+
+        ConventionalCommitValidation tooLong = limitedValidator.validate(INVALID_MESSAGE);
+        ConventionalCommitValidation valid = limitedValidator.validate("feat: add endpoint\n\nBody");
+
+        assertThat(tooLong.result().error(), value(is(ConventionalCommitParseError.MESSAGE_TOO_LONG)));
+        assertThat(tooLong.violations(), is(empty()));
+        assertThat(valid.result().commit().get() instanceof LazyBodyConventionalCommit, is(true));
+        assertThat(valid.result().commit().flatMap(ConventionalCommit::body), value(is(equalTo("Body"))));
+        assertThat(metrics.parseCount(), is(2L));
+        assertThat(metrics.failureCount(ConventionalCommitParseError.MESSAGE_TOO_LONG), is(1L));
+    }
+
+    @Test
+    public void should_accept_any_message_without_rules() {
+        ConventionalCommitValidation validation = new ConventionalCommitValidator.Builder()
+            .build()
+            .validate(INVALID_MESSAGE);
+
+        assertThat(validation.isValid(), is(true));
+    }
+
+    @Test
+    public void should_describe_violation() {
+        ConventionalCommitViolation violation =
+            new ConventionalCommitViolation(ConventionalCommitRule.MISSING_FOOTER_KEY, 12, "Refs");
+
+        assertThat(violation.toString(), is(equalTo("12: Footer key is missing: Refs")));
+    }
+
+}
@@ -0,0 +1,53 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static rocks.cleancode.hamcrest.optional.ValueMatcher.value;
+
+class ConventionalCommitViewTest {
+
+    private ConventionalCommitParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        parser = new ConventionalCommitParser();
+    }
+
+    @ParameterizedTest
+    @MethodSource("rocks.cleancode.conventionalcommit.ConventionalCommitTestCase#testCases")
+    public void should_be_equal_to_parsed_conventional_commit(ConventionalCommitTestCase testCase) {
+        ConventionalCommitView view = parser.parseView(testCase.message());
+        ConventionalCommit conventionalCommit = parser.parse(testCase.message());
+
+        assertThat(view, is(equalTo(conventionalCommit)));
+        assertThat(conventionalCommit, is(equalTo(view)));
+        assertThat(view.hashCode(), is(conventionalCommit.hashCode()));
+        assertThat(view.toString(), is(equalTo(conventionalCommit.toString())));
+    }
+
+    @Test
+    public void should_give_access_to_parts_without_copy() {
+        ConventionalCommitView view = parser.parseView("feat(my-scope): My new feature\n\n  Body  \n\nRefs: #123");
+
+        assertThat(view.typeChars().toString(), is(equalTo("feat")));
+        assertThat(view.scopeChars().map(CharSequence::toString), value(is(equalTo("my-scope"))));
+        assertThat(view.descriptionChars().toString(), is(equalTo("My new feature")));
+        assertThat(view.bodyChars().map(CharSequence::toString), value(is(equalTo("Body"))));
+    }
+
+    @Test
+    public void should_throw_exception_when_description_is_blank() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> parser.parseView("feat:  ")
+        );
+    }
+
+}
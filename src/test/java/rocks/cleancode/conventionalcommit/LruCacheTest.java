@@ -0,0 +1,146 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Every.everyItem;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.hamcrest.number.OrderingComparison.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LruCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final LruCache<String, String> cache = new LruCache<>(2);
+
+    @Test
+    public void should_return_cached_value() {
+        String first = cache.get("key", this::load);
+        String second = cache.get("key", this::load);
+
+        assertThat(second, is(sameInstance(first)));
+        assertThat(loads.get(), is(1));
+        assertThat(cache.statistics().hitCount(), is(1L));
+        assertThat(cache.statistics().missCount(), is(1L));
+    }
+
+    @Test
+    public void should_evict_least_recently_used_value() {
+        cache.get("first", this::load);
+        cache.get("second", this::load);
+        cache.get("first", this::load);
+        cache.get("third", this::load);
+
+        cache.get("first", this::load);
+        cache.get("second", this::load);
+
+        assertThat(loads.get(), is(4));
+        assertThat(cache.statistics().evictionCount(), is(2L));
+        assertThat(cache.statistics().size(), is(2));
+    }
+
+    @Test
+    public void should_return_same_value_to_concurrent_threads() {
+        List<String> values = IntStream.range(0, 10_000)
+            .parallel()
+            .mapToObj(index -> cache.get("key", this::load))
+            .collect(toList());
+
+        assertThat(values, everyItem(is(sameInstance(cache.get("key", this::load)))));
+        assertThat(cache.statistics().hitCount() + cache.statistics().missCount(), is(10_001L));
+    }
+
+    @Test
+    public void should_return_put_value_if_present() {
+        assertThat(cache.getIfPresent("key"), is(nullValue()));
+
+        cache.put("key", "value");
+
+        assertThat(cache.getIfPresent("key"), is(equalTo("value")));
+        assertThat(cache.get("key", this::load), is(equalTo("value")));
+        assertThat(loads.get(), is(0));
+        assertThat(cache.statistics().hitCount(), is(2L));
+        assertThat(cache.statistics().missCount(), is(0L));
+    }
+
+    @Test
+    public void should_evict_least_recently_used_value_when_putting() {
+        cache.put("first", "1");
+        cache.put("second", "2");
+        cache.getIfPresent("first");
+        cache.put("third", "3");
+
+        assertThat(cache.getIfPresent("second"), is(nullValue()));
+        assertThat(cache.getIfPresent("first"), is(equalTo("1")));
+        assertThat(cache.statistics().evictionCount(), is(1L));
+        assertThat(cache.statistics().size(), is(2));
+    }
+
+    @Test
+    public void should_hit_values_from_concurrent_threads() {
+        LruCache<String, String> cache = new LruCache<>(16);
+        List<String> keys = IntStream.range(0, 16).mapToObj(index -> "key" + index).collect(toList());
+        List<String> values = keys.stream().map(key -> cache.get(key, this::load)).collect(toList());
+
+        List<Boolean> hits = IntStream.range(0, 100_000)
+            .parallel()
+            .mapToObj(index -> cache.get(keys.get(index % keys.size()), this::load)
+                == values.get(index % keys.size()))
+            .collect(toList());
+
+        assertThat(hits, everyItem(is(true)));
+        assertThat(loads.get(), is(keys.size()));
+        assertThat(cache.statistics().hitCount(), is(100_000L));
+        assertThat(cache.statistics().evictionCount(), is(0L));
+    }
+
+    @Test
+    public void should_stay_bounded_with_concurrent_hits_and_misses() {
+        LruCache<String, String> cache = new LruCache<>(8);
+
+        IntStream.range(0, 100_000)
+            .parallel()
+            .forEach(index -> cache.get("key" + index % 32, this::load));
+
+        ConventionalCommitCacheStatistics statistics = cache.statistics();
+
+        assertThat(statistics.size(), is(8));
+        assertThat(statistics.hitCount() + statistics.missCount(), is(100_000L));
+        // Concurrent misses of the same key store a single value
+        assertThat(statistics.evictionCount(), is(lessThanOrEqualTo(statistics.missCount() - 8)));
+    }
+
+    @Test
+    public void should_compute_hit_rate() {
+        cache.get("key", this::load);
+        cache.get("key", this::load);
+        cache.get("key", this::load);
+        cache.get("other", this::load);
+
+        assertThat(cache.statistics().hitRate(), is(equalTo(0.5)));
+    }
+
+    @Test
+    public void should_throw_exception_when_maximum_size_is_not_positive() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new LruCache<String, String>(0)
+        );
+    }
+
+    private String load(String key) {
+        loads.incrementAndGet();
+
+        return new String(key.toCharArray());
+    }
+
+}
@@ -0,0 +1,58 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Utf8CharSequenceTest {
+
+    private final Utf8CharSequence text = utf8("fix(café): Déjà vu");
+
+    @Test
+    public void should_have_one_character_per_byte() {
+        assertThat(text.length(), is("fix(café): Déjà vu".getBytes(UTF_8).length));
+        assertThat(text.charAt(4), is('c'));
+    }
+
+    @Test
+    public void should_keep_length_of_sub_sequences() {
+        for (int start = 0; start <= text.length(); start++) {
+            for (int end = start; end <= text.length(); end++) {
+                CharSequence subSequence = text.subSequence(start, end);
+
+                assertThat(subSequence.length(), is(end - start));
+
+                for (int index = start; index < end; index++) {
+                    assertThat(subSequence.charAt(index - start), is(text.charAt(index)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void should_decode_sub_sequence_only_when_converted_to_string() {
+        assertThat(text.subSequence(4, 9).toString(), is(equalTo("café")));
+        assertThat(text.toString(), is(equalTo("fix(café): Déjà vu")));
+        assertThat(new StringBuilder().append(text, 0, 3).toString(), is(equalTo("fix")));
+    }
+
+    @Test
+    public void should_throw_exception_when_sub_sequence_is_out_of_bounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> text.subSequence(-1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> text.subSequence(3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> text.subSequence(0, text.length() + 1));
+    }
+
+    private static Utf8CharSequence utf8(String text) {
+        byte[] bytes = ("--" + text).getBytes(UTF_8);
+
+        return new Utf8CharSequence(ByteBuffer.wrap(bytes), 2, bytes.length - 2);
+    }
+
+}
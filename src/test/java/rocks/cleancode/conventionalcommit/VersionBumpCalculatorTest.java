@@ -0,0 +1,95 @@
+package rocks.cleancode.conventionalcommit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+class VersionBumpCalculatorTest {
+
+    private final VersionBumpCalculator calculator = new VersionBumpCalculator();
+
+    @ParameterizedTest
+    @CsvSource({
+        "'feat: My new feature', MINOR",
+        "'fix(parser): My fix', PATCH",
+        "'docs: My documentation', NONE",
+        "'feat!: My breaking feature', MAJOR",
+        "'refactor: My refactoring\n\nBREAKING CHANGE: API changed', MAJOR",
+        "'Merge branch ''main''', NONE"
+    })
+    public void should_bump_version_of_message(String message, VersionBump expected) {
+        assertThat(calculator.bump(message), is(expected));
+    }
+
+    @ParameterizedTest
+    @MethodSource("rocks.cleancode.conventionalcommit.ConventionalCommitTestCase#testCases")
+    public void should_bump_major_version_of_breaking_changes(ConventionalCommitTestCase testCase) {
+        boolean major = calculator.bump(testCase.message()) == VersionBump.MAJOR;
+
+        assertThat(major, is(testCase.expected().breakingChange()));
+    }
+
+    @Test
+    public void should_keep_highest_bump() {
+        VersionBump bump = calculator.calculate(
+            asList("fix: My fix", "feat: My feature", "docs: My documentation").iterator()
+        );
+
+        assertThat(bump, is(VersionBump.MINOR));
+    }
+
+    @Test
+    public void should_not_bump_version_without_messages() {
+        assertThat(calculator.calculate(Stream.empty()), is(VersionBump.NONE));
+    }
+
+    @Test
+    public void should_stop_at_first_breaking_change() {
+        Iterator<String> messages = asList("fix: My fix", "feat!: My breaking feature", "feat: My feature").iterator();
+
+        VersionBump bump = calculator.calculate(messages);
+
+        assertThat(bump, is(VersionBump.MAJOR));
+        assertThat(messages.next(), is("feat: My feature"));
+    }
+
+    @Test
+    public void should_stop_stream_at_first_breaking_change() {
+        Stream<String> messages = Stream.iterate(1, index -> index + 1)
+            .map(index -> index == 1_000 ? "feat!: My breaking feature" : "fix: My fix " + index);
+
+        assertThat(calculator.calculate(messages), is(VersionBump.MAJOR));
+    }
+
+    @Test
+    public void should_bump_version_of_reader_messages() throws IOException {
+        String gitLog = "fix: My fix\n\u0000\n  feat: My feature\n\nMy body\n\u0000\nMerge branch 'main'\n\u0000";
+
+        try (ConventionalCommitReader reader =
+                 new ConventionalCommitReader(new ConventionalCommitParser(), new StringReader(gitLog))) {
+            assertThat(calculator.calculate(reader), is(VersionBump.MINOR));
+        }
+    }
+
+    @Test
+    public void should_leave_reader_after_first_breaking_change() throws IOException {
+        String gitLog = "fix: My fix\u0000feat: My feature\n\nBREAKING CHANGE: API changed\u0000docs: My documentation";
+
+        try (ConventionalCommitReader reader =
+                 new ConventionalCommitReader(new ConventionalCommitParser(), new StringReader(gitLog))) {
+            assertThat(calculator.calculate(reader), is(VersionBump.MAJOR));
+            assertThat(reader.read().commit().get().type(), is("docs"));
+        }
+    }
+
+}